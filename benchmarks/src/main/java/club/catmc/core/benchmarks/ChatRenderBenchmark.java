@@ -0,0 +1,115 @@
+package club.catmc.core.benchmarks;
+
+import club.catmc.core.bukkit.chat.LegacyText;
+import club.catmc.core.bukkit.chat.RankChatRenderer;
+import io.papermc.paper.chat.ChatRenderer;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous chat formatting path (legacy replace chain, MiniMessage parse and
+ * a white-colored wrapper built on every message) with the cached RankChatRenderer,
+ * both for rendering a single message and for broadcasting it to many viewers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatRenderBenchmark {
+
+    @Param({"1", "200"})
+    public int viewers;
+
+    private String chatName;
+    private Component message;
+    private RankChatRenderer renderer;
+
+    @Setup
+    public void setup() {
+        chatName = "&c&l[Admin] &fNotch&7:";
+        message = Component.text("hello there, anyone up for a game of bedwars?");
+        renderer = new RankChatRenderer(MiniMessage.miniMessage().deserialize(LegacyText.toMiniMessage(chatName)));
+    }
+
+    /**
+     * Previous ChatListener path: the name is parsed and the message wrapped on every event,
+     * and the resulting component is returned to each viewer
+     */
+    @Benchmark
+    public void previousPath(Blackhole blackhole) {
+        Component formattedName = MiniMessage.miniMessage().deserialize(replaceChain(chatName));
+        Component newMessage = Component.text()
+                .append(formattedName)
+                .append(Component.text(" "))
+                .append(message)
+                .color(NamedTextColor.WHITE)
+                .build();
+        ChatRenderer chatRenderer = (source, sourceDisplayName, msg, viewer) -> newMessage;
+        for (int i = 0; i < viewers; i++) {
+            blackhole.consume(chatRenderer.render(null, null, message, null));
+        }
+    }
+
+    /**
+     * Cached renderer wrapped as viewer-unaware, as installed by ChatListener
+     */
+    @Benchmark
+    public void cachedRenderer(Blackhole blackhole) {
+        ChatRenderer chatRenderer = ChatRenderer.viewerUnaware(renderer);
+        for (int i = 0; i < viewers; i++) {
+            blackhole.consume(chatRenderer.render(null, null, message, null));
+        }
+    }
+
+    /**
+     * Cold path: the first message after a rank change rebuilds the chat name
+     */
+    @Benchmark
+    public Component rebuildChatName() {
+        Component name = MiniMessage.miniMessage().deserialize(LegacyText.toMiniMessage(chatName));
+        return new RankChatRenderer(name).render(null, null, message);
+    }
+
+    private static String replaceChain(String legacy) {
+        return legacy
+                .replace("&0", "<black>")
+                .replace("&1", "<dark_blue>")
+                .replace("&2", "<dark_green>")
+                .replace("&3", "<dark_aqua>")
+                .replace("&4", "<dark_red>")
+                .replace("&5", "<dark_purple>")
+                .replace("&6", "<gold>")
+                .replace("&7", "<gray>")
+                .replace("&8", "<dark_gray>")
+                .replace("&9", "<blue>")
+                .replace("&a", "<green>")
+                .replace("&b", "<aqua>")
+                .replace("&c", "<red>")
+                .replace("&d", "<light_purple>")
+                .replace("&e", "<yellow>")
+                .replace("&f", "<white>")
+                .replace("&l", "<bold>")
+                .replace("&o", "<italic>")
+                .replace("&n", "<underlined>")
+                .replace("&m", "<strikethrough>")
+                .replace("&k", "<obfuscated>")
+                .replace("&r", "<reset>");
+    }
+}
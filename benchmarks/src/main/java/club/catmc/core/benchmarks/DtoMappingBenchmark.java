@@ -0,0 +1,66 @@
+package club.catmc.core.benchmarks;
+
+import club.catmc.core.shared.api.ApiClient;
+import club.catmc.core.shared.api.ApiClientOptions;
+import club.catmc.core.shared.dto.GrantDto;
+import club.catmc.core.shared.dto.PlayerDto;
+import club.catmc.core.shared.grant.Grant;
+import club.catmc.core.shared.grant.GrantDao;
+import club.catmc.core.shared.player.Player;
+import club.catmc.core.shared.player.PlayerDao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO to domain mapping done by the DAOs for every loaded player and grant
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private GrantDao grantDao;
+    private PlayerDao playerDao;
+    private GrantDto permanentGrant;
+    private GrantDto temporaryGrant;
+    private PlayerDto player;
+
+    @Setup
+    public void setup() {
+        // No requests are made; the client is only needed to construct the DAOs
+        ApiClient apiClient = new ApiClient("http://127.0.0.1:1/api", "benchmark", ApiClientOptions.createDefault());
+        grantDao = new GrantDao(apiClient);
+        playerDao = new PlayerDao(apiClient);
+        permanentGrant = Fixtures.grantDto(1, null);
+        temporaryGrant = Fixtures.grantDto(2, "2030-01-01T00:00:00");
+        player = Fixtures.playerDto();
+    }
+
+    @Benchmark
+    public Grant mapPermanentGrant() {
+        return grantDao.mapDtoToGrant(permanentGrant);
+    }
+
+    @Benchmark
+    public Grant mapTemporaryGrant() {
+        return grantDao.mapDtoToGrant(temporaryGrant);
+    }
+
+    @Benchmark
+    public Player mapPlayer() {
+        return playerDao.mapDtoToPlayer(player);
+    }
+}
@@ -0,0 +1,114 @@
+package club.catmc.core.benchmarks;
+
+import club.catmc.core.shared.dto.GrantDto;
+import club.catmc.core.shared.dto.PlayerDto;
+import club.catmc.core.shared.grant.Grant;
+import club.catmc.core.shared.player.Player;
+import club.catmc.core.shared.rank.Rank;
+import club.catmc.core.shared.rank.RankInheritance;
+import club.catmc.core.shared.rank.RankRegistry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Realistic sample data shared by the benchmarks: a small rank ladder with inheritance,
+ * players holding a few grants, and the matching API payloads
+ */
+final class Fixtures {
+
+    static final UUID PLAYER_UUID = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    static final UUID GRANTER_UUID = UUID.fromString("853c80ef-3c37-49fd-aa49-938b674adae6");
+
+    private Fixtures() {
+    }
+
+    /**
+     * Builds a registry of ranks where each rank inherits from the one below it
+     */
+    static RankRegistry rankLadder() {
+        Rank member = new Rank("member", "Member", "&7Member", 0);
+        member.setDefaultRank(true);
+        member.setPermissions(new ArrayList<>(Arrays.asList(
+                "core.chat", "core.message", "core.reply", "essentials.spawn", "essentials.home",
+                "essentials.sethome", "essentials.tpa", "essentials.tpaccept", "worldedit.wand.toggle")));
+
+        Rank vip = new Rank("vip", "VIP", "&aVIP", 10);
+        vip.setParents(List.of("member"));
+        vip.setPermissions(new ArrayList<>(Arrays.asList(
+                "essentials.fly", "essentials.nick", "essentials.kit.vip", "cosmetics.*", "-cosmetics.admin")));
+
+        Rank mod = new Rank("mod", "Moderator", "&9Mod", 50);
+        mod.setParents(List.of("vip"));
+        mod.setPermissions(new ArrayList<>(Arrays.asList(
+                "core.punish.mute", "core.punish.kick", "core.punish.warn", "core.staffchat", "essentials.vanish")));
+
+        Rank admin = new Rank("admin", "Admin", "&c&lAdmin", 100);
+        admin.setParents(List.of("mod"));
+        admin.setPermissions(new ArrayList<>(Arrays.asList("core.*", "essentials.*", "worldedit.*")));
+
+        Map<String, Rank> ranks = new HashMap<>();
+        for (Rank rank : List.of(member, vip, mod, admin)) {
+            ranks.put(rank.getId(), rank);
+        }
+        RankInheritance.resolveAll(ranks);
+        return RankRegistry.of(1L, ranks.values());
+    }
+
+    /**
+     * Builds a player with a permanent VIP grant, a temporary mod grant and an expired admin grant
+     */
+    static Player player(RankRegistry ranks) {
+        Player player = new Player(PLAYER_UUID, "Notch");
+        player.setGrants(new ArrayList<>(List.of(
+                grant("vip", null),
+                grant("mod", LocalDateTime.now().plusDays(7)),
+                grant("admin", LocalDateTime.now().minusDays(1)))));
+        player.setAdditionalPermissions(new ArrayList<>(List.of("essentials.kit.builder", "-essentials.nick")));
+        player.resolveActiveRank(ranks, ranks.getDefaultRank());
+        return player;
+    }
+
+    static Grant grant(String rankId, LocalDateTime expiresAt) {
+        Grant grant = new Grant(PLAYER_UUID, rankId, GRANTER_UUID, "Console", "benchmark");
+        grant.setExpiresAt(expiresAt);
+        return grant;
+    }
+
+    static GrantDto grantDto(int id, String expiresAt) {
+        return new GrantDto(id, PLAYER_UUID.toString(), "vip", GRANTER_UUID.toString(), "Console",
+                "2024-05-01T12:30:00", expiresAt, "Bought VIP on the store", true);
+    }
+
+    static PlayerDto playerDto() {
+        return new PlayerDto(PLAYER_UUID.toString(), "Notch", 1_234_567L, "2023-01-15T18:04:12",
+                "2024-05-01T12:30:00", true, List.of("essentials.kit.builder", "-essentials.nick"));
+    }
+
+    static String playerJson() {
+        return "{\"uuid\":\"" + PLAYER_UUID + "\",\"username\":\"Notch\",\"playtimeTicks\":1234567,"
+                + "\"firstLogin\":\"2023-01-15T18:04:12\",\"lastLogin\":\"2024-05-01T12:30:00\",\"isOnline\":true,"
+                + "\"additionalPermissions\":[\"essentials.kit.builder\",\"-essentials.nick\"]}";
+    }
+
+    static String grantListJson(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i + 1)
+                    .append(",\"playerUuid\":\"").append(PLAYER_UUID)
+                    .append("\",\"rankId\":\"vip\",\"granterUuid\":\"").append(GRANTER_UUID)
+                    .append("\",\"granterName\":\"Console\",\"grantedAt\":\"2024-05-01T12:30:00\"")
+                    .append(",\"expiresAt\":").append(i % 2 == 0 ? "null" : "\"2030-01-01T00:00:00\"")
+                    .append(",\"reason\":\"Bought VIP on the store\",\"isActive\":true}");
+        }
+        return json.append(']').toString();
+    }
+}
@@ -0,0 +1,54 @@
+package club.catmc.core.benchmarks;
+
+import club.catmc.core.shared.grant.Grant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grant validity checks; temporary grants read the clock on every call
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrantBenchmark {
+
+    private Grant permanent;
+    private Grant temporary;
+    private Grant expired;
+
+    @Setup
+    public void setup() {
+        permanent = Fixtures.grant("vip", null);
+        temporary = Fixtures.grant("mod", LocalDateTime.now().plusDays(7));
+        expired = Fixtures.grant("admin", LocalDateTime.now().minusDays(1));
+    }
+
+    @Benchmark
+    public boolean isValidPermanent() {
+        return permanent.isValid();
+    }
+
+    @Benchmark
+    public boolean isValidTemporary() {
+        return temporary.isValid();
+    }
+
+    @Benchmark
+    public boolean isValidExpired() {
+        return expired.isValid();
+    }
+}
@@ -0,0 +1,83 @@
+package club.catmc.core.benchmarks;
+
+import club.catmc.core.shared.api.ApiClient;
+import club.catmc.core.shared.api.ApiClientOptions;
+import club.catmc.core.shared.dto.GrantDto;
+import club.catmc.core.shared.dto.PlayerDto;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response deserialization with the ApiClient's Gson instance: single objects, whole
+ * lists, and the element-by-element streaming used by ApiClient.getEach
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GsonBenchmark {
+
+    private static final Type GRANT_LIST = new TypeToken<List<GrantDto>>() {}.getType();
+
+    @Param({"10", "500"})
+    public int grants;
+
+    private Gson gson;
+    private byte[] playerJson;
+    private byte[] grantListJson;
+
+    @Setup
+    public void setup() {
+        gson = new ApiClient("http://127.0.0.1:1/api", "benchmark", ApiClientOptions.createDefault()).getGson();
+        playerJson = Fixtures.playerJson().getBytes(StandardCharsets.UTF_8);
+        grantListJson = Fixtures.grantListJson(grants).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PlayerDto player() {
+        return gson.fromJson(reader(playerJson), PlayerDto.class);
+    }
+
+    @Benchmark
+    public List<GrantDto> grantList() {
+        return gson.fromJson(reader(grantListJson), GRANT_LIST);
+    }
+
+    @Benchmark
+    public void grantListStreamed(Blackhole blackhole) throws IOException {
+        try (JsonReader reader = reader(grantListJson)) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                blackhole.consume(gson.<GrantDto>fromJson(reader, GrantDto.class));
+            }
+            reader.endArray();
+        }
+    }
+
+    private static JsonReader reader(byte[] json) {
+        return new JsonReader(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,44 @@
+package club.catmc.core.benchmarks;
+
+import club.catmc.core.bukkit.chat.LegacyText;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Legacy color code translation of rank prefixes.
+ * ChatListener.legacyToMiniMessage delegates to LegacyText.toMiniMessage, and ChatNameCache
+ * deserializes its output when it rebuilds a chat name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LegacyTextBenchmark {
+
+    @Param({"Notch&7:", "&c&l[Admin] &fNotch&7:", "&8[&6&lM&e&lV&6&lP&8] &6Notch &8» &7:"})
+    public String chatName;
+
+    @Benchmark
+    public String toMiniMessage() {
+        return LegacyText.toMiniMessage(chatName);
+    }
+
+    @Benchmark
+    public Component deserialize() {
+        return MiniMessage.miniMessage().deserialize(LegacyText.toMiniMessage(chatName));
+    }
+}
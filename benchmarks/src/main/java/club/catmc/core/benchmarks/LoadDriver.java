@@ -0,0 +1,225 @@
+package club.catmc.core.benchmarks;
+
+import club.catmc.core.benchmarks.fakeapi.FakeCoreApi;
+import club.catmc.core.benchmarks.fakeapi.FakeCoreApiOptions;
+import club.catmc.core.benchmarks.fakeapi.FakeDataset;
+import club.catmc.core.bukkit.manager.PlayerManager;
+import club.catmc.core.shared.api.ApiClient;
+import club.catmc.core.shared.api.ApiClientOptions;
+import club.catmc.core.shared.grant.GrantDao;
+import club.catmc.core.shared.metrics.MetricsRegistry;
+import club.catmc.core.shared.player.LoginBundleDao;
+import club.catmc.core.shared.player.Player;
+import club.catmc.core.shared.player.PlayerDao;
+import club.catmc.core.shared.punishment.PunishmentDao;
+import club.catmc.core.shared.rank.RankDao;
+import club.catmc.core.shared.ws.ChangeFeedDao;
+import club.catmc.core.shared.ws.WebSocketManager;
+import net.kyori.adventure.text.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives a login storm and a chat flood against the Bukkit PlayerManager, backed by the
+ * in-process FakeCoreApi, and prints throughput and latency percentiles for each phase.
+ * <p>
+ * Runs without a Bukkit server: a JavaPlugin cannot be constructed outside one, so the
+ * PlayerManager is created without a plugin instance and the driver stays off every path that
+ * reaches it. Those are permission updates (setupPermissions and recalculatePermissions, which
+ * rank changes, grant reloads and resyncs all end in) and grant expiry callbacks. That is why no
+ * WebSocket handlers are registered, and why the fake dataset always has a default rank and only
+ * grants that expire minutes after startup. Only profile loading, rank resolution, mute checks,
+ * chat rendering and the write-behind flush are exercised.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar club.catmc.core.benchmarks.LoadDriver [--option=value ...]}
+ * <ul>
+ *     <li>{@code --players} players in the dataset and logging in (default 1000)</li>
+ *     <li>{@code --concurrency} logins in flight at once (default 200)</li>
+ *     <li>{@code --latency} simulated API latency in milliseconds (default 20)</li>
+ *     <li>{@code --jitter} random extra latency in milliseconds (default 10)</li>
+ *     <li>{@code --error-rate} fraction of API requests failing with 503 (default 0)</li>
+ *     <li>{@code --max-in-flight} ApiClient in-flight request limit (default 32)</li>
+ *     <li>{@code --max-queued} ApiClient request queue limit (default 4096)</li>
+ *     <li>{@code --chat-messages} chat messages sent during the flood (default 200000)</li>
+ *     <li>{@code --no-login-bundle} serve 404 on the login bundle to force the parallel fallback</li>
+ *     <li>{@code --metrics} print the metrics text dump at the end</li>
+ * </ul>
+ */
+public final class LoadDriver {
+
+    private LoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> flags = parseFlags(args);
+        int players = Integer.parseInt(flags.getOrDefault("players", "1000"));
+        int concurrency = Integer.parseInt(flags.getOrDefault("concurrency", "200"));
+        int chatMessages = Integer.parseInt(flags.getOrDefault("chat-messages", "200000"));
+
+        FakeCoreApiOptions options = FakeCoreApiOptions.createDefault();
+        options.setPlayers(players);
+        options.setLatencyMillis(Long.parseLong(flags.getOrDefault("latency", "20")));
+        options.setLatencyJitterMillis(Long.parseLong(flags.getOrDefault("jitter", "10")));
+        options.setErrorRate(Double.parseDouble(flags.getOrDefault("error-rate", "0")));
+        options.setLoginBundleEnabled(!flags.containsKey("no-login-bundle"));
+
+        try (FakeCoreApi api = new FakeCoreApi(options)) {
+            api.start();
+
+            ApiClientOptions clientOptions = ApiClientOptions.createDefault();
+            clientOptions.setMaxInFlightRequests(Integer.parseInt(flags.getOrDefault("max-in-flight",
+                    String.valueOf(ApiClientOptions.DEFAULT_MAX_IN_FLIGHT_REQUESTS))));
+            clientOptions.setMaxQueuedRequests(Integer.parseInt(flags.getOrDefault("max-queued",
+                    String.valueOf(ApiClientOptions.DEFAULT_MAX_QUEUED_REQUESTS))));
+            MetricsRegistry metrics = new MetricsRegistry();
+            ApiClient apiClient = new ApiClient(api.getBaseUrl(), options.getApiKey(), clientOptions, metrics);
+            PlayerDao playerDao = new PlayerDao(apiClient);
+            GrantDao grantDao = new GrantDao(apiClient);
+            RankDao rankDao = new RankDao(apiClient);
+            PunishmentDao punishmentDao = new PunishmentDao(apiClient);
+            LoginBundleDao loginBundleDao = new LoginBundleDao(apiClient, playerDao, grantDao, punishmentDao);
+            WebSocketManager wsManager = new WebSocketManager(api.getWsUrl(), "paper", "load-driver", options.getApiKey(),
+                    metrics);
+            wsManager.connect();
+
+            PlayerManager playerManager = new PlayerManager(null, playerDao, loginBundleDao, grantDao, rankDao,
+                    punishmentDao, new ChangeFeedDao(apiClient), wsManager, metrics);
+            playerManager.initialize().join();
+
+            List<UUID> online = loginStorm(playerManager, players, concurrency);
+            chatFlood(playerManager, online, chatMessages);
+            logoutAndFlush(playerManager, online);
+
+            wsManager.disconnect();
+            System.out.printf("API: %d requests, %d injected errors%n", api.getRequestCount(), api.getInjectedErrorCount());
+            if (flags.containsKey("metrics")) {
+                System.out.print(metrics.toText());
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Logs every player in with at most {@code concurrency} profile loads in flight
+     */
+    private static List<UUID> loginStorm(PlayerManager playerManager, int players, int concurrency)
+            throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        long[] latencies = new long[players];
+        List<CompletableFuture<Player>> futures = new ArrayList<>(players);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < players; i++) {
+            permits.acquire();
+            int index = i;
+            long issued = System.nanoTime();
+            futures.add(playerManager.loadProfile(FakeDataset.uuidOf(i), FakeDataset.usernameOf(i))
+                    .whenComplete((player, e) -> {
+                        latencies[index] = System.nanoTime() - issued;
+                        permits.release();
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        long elapsed = System.nanoTime() - start;
+
+        List<UUID> online = new ArrayList<>(players);
+        for (CompletableFuture<Player> future : futures) {
+            Player player = future.join();
+            if (player != null) {
+                online.add(player.getUuid());
+            }
+        }
+        report("Login storm", players, elapsed, latencies);
+        System.out.printf("  %d/%d profiles loaded, %d failed%n", online.size(), players, players - online.size());
+        return online;
+    }
+
+    /**
+     * Sends chat messages from random online players through the mute check and the cached renderer,
+     * as ChatListener does for every chat event
+     */
+    private static void chatFlood(PlayerManager playerManager, List<UUID> online, int messages) {
+        if (online.isEmpty()) {
+            return;
+        }
+        Component message = Component.text("hello there, anyone up for a game of bedwars?");
+        long[] latencies = new long[messages];
+        int muted = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < messages; i++) {
+            long issued = System.nanoTime();
+            UUID uuid = online.get(ThreadLocalRandom.current().nextInt(online.size()));
+            if (playerManager.getMuteCache().isMuted(uuid)) {
+                muted++;
+            } else {
+                Player player = playerManager.getPlayer(uuid);
+                playerManager.getChatNameCache().getRenderer(player).render(null, null, message);
+            }
+            latencies[i] = System.nanoTime() - issued;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        report("Chat flood", messages, elapsed, latencies);
+        System.out.printf("  %d messages blocked by mutes, %d chat names cached%n", muted,
+                playerManager.getChatNameCache().size());
+    }
+
+    /**
+     * Unloads every player and waits for the write-behind buffer to flush
+     */
+    private static void logoutAndFlush(PlayerManager playerManager, List<UUID> online) {
+        long start = System.nanoTime();
+        for (UUID uuid : online) {
+            playerManager.unloadProfile(uuid);
+        }
+        playerManager.shutdown().join();
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("Logout and flush: %d players in %.1f ms%n", online.size(), elapsed / 1e6);
+    }
+
+    private static void report(String phase, int operations, long elapsedNanos, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%s: %d ops in %.1f ms (%.0f ops/s)%n", phase, operations, elapsedNanos / 1e6,
+                operations / (elapsedNanos / 1e9));
+        System.out.printf("  p50 %s  p95 %s  p99 %s  max %s%n", format(percentile(sorted, 0.50)),
+                format(percentile(sorted, 0.95)), format(percentile(sorted, 0.99)), format(sorted[sorted.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static String format(long nanos) {
+        if (nanos >= TimeUnit.MILLISECONDS.toNanos(1)) {
+            return String.format("%.2f ms", nanos / 1e6);
+        }
+        return String.format("%.2f us", nanos / 1e3);
+    }
+
+    private static Map<String, String> parseFlags(String[] args) {
+        Map<String, String> flags = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                flags.put(arg.substring(2), "true");
+            } else {
+                flags.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return flags;
+    }
+}
@@ -0,0 +1,65 @@
+package club.catmc.core.benchmarks;
+
+import club.catmc.core.shared.player.Player;
+import club.catmc.core.shared.rank.Rank;
+import club.catmc.core.shared.rank.RankRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission checks and active rank lookups on a loaded player, as done on every
+ * Bukkit/BungeeCord permission check and chat message
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+    private RankRegistry ranks;
+    private Player player;
+
+    @Setup
+    public void setup() {
+        ranks = Fixtures.rankLadder();
+        player = Fixtures.player(ranks);
+    }
+
+    @Benchmark
+    public boolean hasPermission(Permission permission) {
+        return player.hasPermission(permission.node);
+    }
+
+    @Benchmark
+    public String getActiveRankId() {
+        return player.getActiveRankId();
+    }
+
+    /**
+     * Full re-resolve, as done when grants or ranks change
+     */
+    @Benchmark
+    public Rank resolveActiveRank() {
+        return player.resolveActiveRank(ranks, ranks.getDefaultRank());
+    }
+
+    @State(Scope.Benchmark)
+    public static class Permission {
+        /** Exact node, wildcard match, negated by additional permissions, and not granted */
+        @Param({"core.staffchat", "cosmetics.hats.crown", "essentials.nick", "luckperms.user.info"})
+        public String node;
+    }
+}
@@ -0,0 +1,88 @@
+package club.catmc.core.benchmarks;
+
+import club.catmc.core.shared.messaging.MessageCodec;
+import club.catmc.core.shared.messaging.MessageCodecException;
+import club.catmc.core.shared.messaging.PluginMessage;
+import club.catmc.core.shared.messaging.PrivateChatMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of the private message frame sent over core:channel,
+ * with MessageCodec next to the old writeUTF frame as a baseline
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PluginMessageBenchmark {
+
+    private UUID senderUuid;
+    private String senderName;
+    private String message;
+    private String formattedMessage;
+    private PluginMessage encodedUtf;
+    private PluginMessage encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        senderUuid = Fixtures.PLAYER_UUID;
+        senderName = "Notch";
+        message = "are you coming to the build event tonight?";
+        formattedMessage = "§d(From §fNotch§d) §7" + message;
+        encodedUtf = writeUtfEncode();
+        encoded = encode();
+    }
+
+    @Benchmark
+    public PluginMessage encode() {
+        return MessageCodec.toPluginMessage(new PrivateChatMessage(senderUuid, senderName, message, formattedMessage));
+    }
+
+    @Benchmark
+    public Object decode() throws MessageCodecException {
+        return encoded.decode();
+    }
+
+    @Benchmark
+    public PluginMessage writeUtfEncode() throws IOException {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(byteStream);
+        out.writeUTF("PRIVATE_MESSAGE");
+        out.writeUTF(senderUuid.toString());
+        out.writeUTF(senderName);
+        out.writeUTF(message);
+        out.writeUTF(formattedMessage);
+        return new PluginMessage(PluginMessage.CHANNEL, byteStream.toByteArray());
+    }
+
+    @Benchmark
+    public void writeUtfDecode(Blackhole blackhole) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encodedUtf.getData()))) {
+            blackhole.consume(in.readUTF());
+            blackhole.consume(UUID.fromString(in.readUTF()));
+            blackhole.consume(in.readUTF());
+            blackhole.consume(in.readUTF());
+            blackhole.consume(in.readUTF());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package club.catmc.core.benchmarks;
+
+import club.catmc.core.shared.ws.event.WebSocketEvent;
+import club.catmc.core.shared.ws.event.WebSocketEventDecoder;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of a punishment event frame: the streaming WebSocketEventDecoder against
+ * parsing into a JsonObject tree and reading the fields back out
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebSocketEventBenchmark {
+
+    private Gson gson;
+    private String frame;
+
+    @Setup
+    public void setup() {
+        gson = new Gson();
+
+        JsonObject event = new JsonObject();
+        event.addProperty("type", "PUNISH_EXECUTE");
+        event.addProperty("playerUuid", Fixtures.PLAYER_UUID.toString());
+        event.addProperty("punishmentType", "MUTE");
+        event.addProperty("reason", "Spamming in chat");
+        event.addProperty("serverName", "lobby-1");
+        event.addProperty("timestamp", "2024-01-01T00:00:00Z");
+        frame = gson.toJson(event);
+    }
+
+    @Benchmark
+    public WebSocketEvent streamed() throws IOException {
+        return WebSocketEventDecoder.decode(frame);
+    }
+
+    @Benchmark
+    public void tree(Blackhole blackhole) {
+        JsonObject json = gson.fromJson(frame, JsonObject.class);
+        blackhole.consume(json.get("type").getAsString());
+        blackhole.consume(UUID.fromString(json.get("playerUuid").getAsString()));
+        blackhole.consume(json.get("punishmentType").getAsString());
+        blackhole.consume(json.has("reason") && !json.get("reason").isJsonNull() ? json.get("reason").getAsString() : null);
+    }
+}
@@ -0,0 +1,398 @@
+package club.catmc.core.benchmarks.fakeapi;
+
+import club.catmc.core.shared.dto.ChangeSetDto;
+import club.catmc.core.shared.dto.GrantDto;
+import club.catmc.core.shared.dto.LoginBundleDto;
+import club.catmc.core.shared.dto.PlayerDto;
+import club.catmc.core.shared.dto.PunishmentDto;
+import club.catmc.core.shared.dto.RankDto;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * In-process stand-in for the Core API, serving the REST endpoints the DAOs call
+ * (/players, /grants, /ranks, /punishments, /events/changes) and the /ws event stream.
+ * Every request can be delayed and failed on purpose, so plugins and load tests can run
+ * against realistic latency and error rates without the real backend.
+ */
+public class FakeCoreApi implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeCoreApi.class);
+
+    private final FakeCoreApiOptions options;
+    private final FakeDataset dataset;
+    private final Gson gson;
+    private final AtomicLong requests;
+    private final AtomicLong injectedErrors;
+
+    private HttpServer httpServer;
+    private ExecutorService executor;
+    private FakeEventServer eventServer;
+
+    public FakeCoreApi(FakeCoreApiOptions options) {
+        this.options = options;
+        this.dataset = new FakeDataset(options);
+        this.gson = new Gson();
+        this.requests = new AtomicLong();
+        this.injectedErrors = new AtomicLong();
+    }
+
+    /**
+     * Starts the REST and WebSocket endpoints
+     *
+     * @throws IOException if a port cannot be bound
+     */
+    public void start() throws IOException, InterruptedException {
+        // Simulated latency sleeps, which is cheap on virtual threads
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", options.getHttpPort()), 1024);
+        httpServer.createContext("/api/", this::handle);
+        httpServer.setExecutor(executor);
+        httpServer.start();
+
+        eventServer = new FakeEventServer(options.getWsPort(), options.getApiKey());
+        eventServer.startAndWait();
+
+        log.info("[FakeCoreApi] Serving {} players at {} and {}", dataset.getPlayerCount(), getBaseUrl(), getWsUrl());
+    }
+
+    @Override
+    public void close() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+        }
+        if (eventServer != null) {
+            try {
+                eventServer.stop(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the base URL to configure the ApiClient with
+     *
+     * @return The base URL, e.g. http://127.0.0.1:12345/api
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/api";
+    }
+
+    /**
+     * Gets the URL to configure the WebSocketManager with
+     *
+     * @return The WebSocket URL, e.g. ws://127.0.0.1:12346/ws
+     */
+    public String getWsUrl() {
+        return "ws://127.0.0.1:" + eventServer.getPort() + "/ws";
+    }
+
+    public FakeDataset getDataset() {
+        return dataset;
+    }
+
+    public FakeEventServer getEventServer() {
+        return eventServer;
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            // Caught inside the resource block so the 500 is sent before the exchange is closed
+            try {
+                route(exchange);
+            } catch (RuntimeException e) {
+                log.warn("[FakeCoreApi] {} {} failed: {}", exchange.getRequestMethod(), exchange.getRequestURI(), e.toString());
+                respond(exchange, 500, error(e.getMessage()));
+            }
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        simulateLatency();
+
+        if (options.getApiKey() != null && !options.getApiKey().equals(exchange.getRequestHeaders().getFirst("X-API-Key"))) {
+            respond(exchange, 401, error("Invalid API key"));
+            return;
+        }
+        if (options.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < options.getErrorRate()) {
+            injectedErrors.incrementAndGet();
+            respond(exchange, options.getErrorStatus(), error("Injected failure"));
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath().substring("/api/".length());
+        String[] segments = path.endsWith("/") ? path.substring(0, path.length() - 1).split("/") : path.split("/");
+        String method = exchange.getRequestMethod();
+
+        if (segments[0].equals("events")) {
+            events(exchange, method, segments);
+            return;
+        }
+
+        Object response = switch (segments[0]) {
+            case "players" -> players(exchange, method, segments);
+            case "grants" -> grants(exchange, method, segments);
+            case "ranks" -> ranks(exchange, method, segments);
+            case "punishments" -> punishments(exchange, method, segments);
+            default -> null;
+        };
+        if (response == null) {
+            respond(exchange, 404, error("Not found"));
+        } else {
+            respond(exchange, 200, response);
+        }
+    }
+
+    private void events(HttpExchange exchange, String method, String[] s) throws IOException {
+        if (!method.equals("POST") || s.length != 2 || !s[1].equals("changes")) {
+            respond(exchange, 404, error("Not found"));
+            return;
+        }
+
+        JsonObject request = read(exchange, JsonObject.class);
+        List<String> players = new ArrayList<>();
+        for (JsonElement player : request.getAsJsonArray("players")) {
+            players.add(player.getAsString());
+        }
+
+        ChangeSetDto changes = eventServer.changesSince(request.get("sinceSeq").getAsLong(), players);
+        if (changes == null) {
+            respond(exchange, 410, error("Changes are no longer available"));
+        } else {
+            respond(exchange, 200, changes);
+        }
+    }
+
+    private Object players(HttpExchange exchange, String method, String[] s) throws IOException {
+        switch (method + " " + s.length) {
+            case "GET 2":
+                return s[1].equals("online") ? dataset.getOnlinePlayers() : dataset.getPlayer(s[1]);
+            case "GET 3":
+                if (s[1].equals("username")) {
+                    return dataset.getPlayerByUsername(s[2]);
+                }
+                if (s[1].equals("top-playtime")) {
+                    return dataset.getTopByPlaytime(Integer.parseInt(s[2]));
+                }
+                if (s[2].equals("login-bundle") && options.isLoginBundleEnabled()) {
+                    // Unknown players get an empty bundle, not a 404 (which means "endpoint missing")
+                    return new LoginBundleDto(dataset.getPlayer(s[1]), dataset.getActiveGrants(s[1]),
+                            dataset.getActivePunishments(s[1]));
+                }
+                return null;
+            case "POST 1":
+                dataset.putPlayer(read(exchange, PlayerDto.class));
+                return success();
+            case "POST 2":
+                if (!s[1].equals("batch") || !options.isBatchEnabled()) {
+                    return null;
+                }
+                JsonObject batch = read(exchange, JsonObject.class);
+                for (JsonElement player : batch.getAsJsonArray("players")) {
+                    dataset.putPlayer(gson.fromJson(player, PlayerDto.class));
+                }
+                if (batch.has("playtime")) {
+                    for (JsonElement entry : batch.getAsJsonArray("playtime")) {
+                        JsonObject playtime = entry.getAsJsonObject();
+                        dataset.addPlaytime(playtime.get("uuid").getAsString(), playtime.get("ticks").getAsLong());
+                    }
+                }
+                return success();
+            case "POST 3":
+                if (!s[2].equals("playtime")) {
+                    return null;
+                }
+                return dataset.addPlaytime(s[1], read(exchange, JsonObject.class).get("ticks").getAsLong()) ? success() : null;
+            case "PUT 3":
+                if (!s[2].equals("online")) {
+                    return null;
+                }
+                return dataset.setOnline(s[1], read(exchange, JsonObject.class).get("isOnline").getAsBoolean()) ? success() : null;
+            case "DELETE 2":
+                return dataset.removePlayer(s[1]) ? success() : null;
+            default:
+                return null;
+        }
+    }
+
+    private Object grants(HttpExchange exchange, String method, String[] s) throws IOException {
+        switch (method + " " + s.length) {
+            case "GET 2":
+                return dataset.getGrant(Integer.parseInt(s[1]));
+            case "GET 3":
+                if (s[1].equals("player")) {
+                    return dataset.getGrants(s[2]);
+                }
+                return s[1].equals("rank") ? dataset.getGrantsByRank(s[2]) : null;
+            case "GET 4":
+                if (!s[1].equals("player")) {
+                    return null;
+                }
+                return switch (s[3]) {
+                    case "active" -> dataset.getActiveGrants(s[2]);
+                    case "active-expired" -> dataset.getActiveExpiredGrants(s[2]);
+                    default -> null;
+                };
+            case "POST 1":
+                dataset.addGrant(read(exchange, GrantDto.class));
+                return success();
+            case "POST 2":
+                return s[1].equals("cleanup-expired") ? Map.of("cleanupCount", dataset.deactivateExpiredGrants()) : null;
+            case "PUT 3":
+                if (!s[2].equals("active")) {
+                    return null;
+                }
+                return dataset.setGrantActive(Integer.parseInt(s[1]), read(exchange, JsonObject.class).get("isActive").getAsBoolean())
+                        ? success() : null;
+            case "DELETE 2":
+                return dataset.removeGrant(Integer.parseInt(s[1])) ? success() : null;
+            case "DELETE 3":
+                if (!s[1].equals("player")) {
+                    return null;
+                }
+                dataset.removeGrants(s[2]);
+                return success();
+            default:
+                return null;
+        }
+    }
+
+    private Object ranks(HttpExchange exchange, String method, String[] s) throws IOException {
+        switch (method + " " + s.length) {
+            case "GET 1":
+                return List.copyOf(dataset.getRanks());
+            case "GET 2":
+                return s[1].equals("default") ? dataset.getDefaultRank() : dataset.getRank(s[1]);
+            case "POST 1":
+                RankDto rank = read(exchange, RankDto.class);
+                dataset.putRank(rank);
+                JsonObject fields = new JsonObject();
+                fields.addProperty("rankId", rank.getId());
+                eventServer.publish("RANK_CHANGE", fields);
+                return success();
+            case "DELETE 2":
+                return dataset.removeRank(s[1]) ? success() : null;
+            default:
+                return null;
+        }
+    }
+
+    private Object punishments(HttpExchange exchange, String method, String[] s) throws IOException {
+        switch (method + " " + s.length) {
+            case "GET 2":
+                return dataset.getPunishment(Integer.parseInt(s[1]));
+            case "GET 3":
+                return s[1].equals("player") ? dataset.getPunishments(s[2]) : null;
+            case "GET 4":
+                if (!s[1].equals("player")) {
+                    return null;
+                }
+                return switch (s[3]) {
+                    case "active" -> dataset.getActivePunishments(s[2]);
+                    case "active-expired" -> dataset.getActiveExpiredPunishments(s[2]);
+                    default -> null;
+                };
+            case "POST 1":
+                return dataset.addPunishment(read(exchange, PunishmentDto.class));
+            case "POST 2":
+                return s[1].equals("cleanup-expired") ? Map.of("count", dataset.deactivateExpiredPunishments()) : null;
+            case "POST 3":
+                if (!s[2].equals("execute") || !dataset.markExecuted(Integer.parseInt(s[1]))) {
+                    return null;
+                }
+                return Map.of("success", true, "message", "Punishment executed", "kicked", false);
+            case "PUT 3":
+                if (!s[2].equals("active")) {
+                    return null;
+                }
+                return dataset.setPunishmentActive(Integer.parseInt(s[1]), read(exchange, JsonObject.class).get("isActive").getAsBoolean())
+                        ? success() : null;
+            case "DELETE 2":
+                return dataset.removePunishment(Integer.parseInt(s[1])) ? success() : null;
+            case "DELETE 3":
+                if (!s[1].equals("player")) {
+                    return null;
+                }
+                dataset.removePunishments(s[2]);
+                return success();
+            default:
+                return null;
+        }
+    }
+
+    private void simulateLatency() {
+        long delay = options.getLatencyMillis();
+        if (options.getLatencyJitterMillis() > 0) {
+            delay += ThreadLocalRandom.current().nextLong(options.getLatencyJitterMillis() + 1);
+        }
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> T read(HttpExchange exchange, Class<T> type) throws IOException {
+        InputStream body = exchange.getRequestBody();
+        if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            body = new GZIPInputStream(body);
+        }
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, type);
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] json = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+
+    private static Map<String, Object> success() {
+        return Map.of("success", true);
+    }
+
+    private static Map<String, Object> error(String message) {
+        return Map.of("error", message != null ? message : "error");
+    }
+}
@@ -0,0 +1,160 @@
+package club.catmc.core.benchmarks.fakeapi;
+
+/**
+ * Options for the fake Core API: dataset size, simulated latency and error injection
+ */
+public class FakeCoreApiOptions {
+
+    public static final int DEFAULT_PLAYERS = 1000;
+    public static final long DEFAULT_SEED = 42L;
+    public static final int DEFAULT_ERROR_STATUS = 503;
+
+    private int httpPort = 0;
+    private int wsPort = 0;
+    private String apiKey = "fake-api-key";
+    private int players = DEFAULT_PLAYERS;
+    private double grantedFraction = 0.3;
+    private double tempGrantFraction = 0.1;
+    private double mutedFraction = 0.05;
+    private long seed = DEFAULT_SEED;
+    private long latencyMillis = 0L;
+    private long latencyJitterMillis = 0L;
+    private double errorRate = 0.0;
+    private int errorStatus = DEFAULT_ERROR_STATUS;
+    private boolean loginBundleEnabled = true;
+    private boolean batchEnabled = true;
+
+    /**
+     * Creates options with defaults: ephemeral ports, 1000 players, no latency and no errors
+     *
+     * @return New options
+     */
+    public static FakeCoreApiOptions createDefault() {
+        return new FakeCoreApiOptions();
+    }
+
+    public int getHttpPort() {
+        return httpPort;
+    }
+
+    /** Port of the REST API, or 0 for an ephemeral port */
+    public void setHttpPort(int httpPort) {
+        this.httpPort = httpPort;
+    }
+
+    public int getWsPort() {
+        return wsPort;
+    }
+
+    /** Port of the WebSocket endpoint, or 0 for an ephemeral port */
+    public void setWsPort(int wsPort) {
+        this.wsPort = wsPort;
+    }
+
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    /** Required X-API-Key header value; null accepts any key */
+    public void setApiKey(String apiKey) {
+        this.apiKey = apiKey;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    /** Number of existing player profiles generated up front */
+    public void setPlayers(int players) {
+        this.players = players;
+    }
+
+    public double getGrantedFraction() {
+        return grantedFraction;
+    }
+
+    /** Fraction of players holding a permanent paid rank grant */
+    public void setGrantedFraction(double grantedFraction) {
+        this.grantedFraction = grantedFraction;
+    }
+
+    public double getTempGrantFraction() {
+        return tempGrantFraction;
+    }
+
+    /** Fraction of players holding an additional temporary grant */
+    public void setTempGrantFraction(double tempGrantFraction) {
+        this.tempGrantFraction = tempGrantFraction;
+    }
+
+    public double getMutedFraction() {
+        return mutedFraction;
+    }
+
+    /** Fraction of players with an active temporary mute */
+    public void setMutedFraction(double mutedFraction) {
+        this.mutedFraction = mutedFraction;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Seed for dataset generation, latency jitter and error injection */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    /** Fixed delay added to every request */
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public long getLatencyJitterMillis() {
+        return latencyJitterMillis;
+    }
+
+    /** Maximum random delay added on top of the fixed latency */
+    public void setLatencyJitterMillis(long latencyJitterMillis) {
+        this.latencyJitterMillis = latencyJitterMillis;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /** Fraction of requests answered with the error status instead of being served */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    public void setErrorStatus(int errorStatus) {
+        this.errorStatus = errorStatus;
+    }
+
+    public boolean isLoginBundleEnabled() {
+        return loginBundleEnabled;
+    }
+
+    /** Whether /players/{uuid}/login-bundle exists; disabled it answers 404 like older APIs */
+    public void setLoginBundleEnabled(boolean loginBundleEnabled) {
+        this.loginBundleEnabled = loginBundleEnabled;
+    }
+
+    public boolean isBatchEnabled() {
+        return batchEnabled;
+    }
+
+    /** Whether /players/batch exists; disabled it answers 404 like older APIs */
+    public void setBatchEnabled(boolean batchEnabled) {
+        this.batchEnabled = batchEnabled;
+    }
+}
@@ -0,0 +1,400 @@
+package club.catmc.core.benchmarks.fakeapi;
+
+import club.catmc.core.shared.dto.GrantDto;
+import club.catmc.core.shared.dto.PlayerDto;
+import club.catmc.core.shared.dto.PunishmentDto;
+import club.catmc.core.shared.dto.RankDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory data behind the fake Core API.
+ * Generated deterministically from the options, so runs with the same seed see the same
+ * players, grants, mutes and ranks.
+ */
+public class FakeDataset {
+
+    private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final String CONSOLE_UUID = new UUID(0L, 0L).toString();
+
+    private final Map<String, RankDto> ranks = new ConcurrentHashMap<>();
+    private final Map<String, PlayerDto> players = new ConcurrentHashMap<>();
+    private final Map<String, String> uuidsByUsername = new ConcurrentHashMap<>();
+    private final Map<Integer, GrantDto> grants = new ConcurrentHashMap<>();
+    private final Map<String, List<GrantDto>> grantsByPlayer = new ConcurrentHashMap<>();
+    private final Map<Integer, PunishmentDto> punishments = new ConcurrentHashMap<>();
+    private final Map<String, List<PunishmentDto>> punishmentsByPlayer = new ConcurrentHashMap<>();
+    private final AtomicInteger grantIds = new AtomicInteger();
+    private final AtomicInteger punishmentIds = new AtomicInteger();
+
+    /**
+     * Generates a dataset
+     *
+     * @param options Dataset size and composition
+     */
+    public FakeDataset(FakeCoreApiOptions options) {
+        generateRanks();
+
+        Random random = new Random(options.getSeed());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < options.getPlayers(); i++) {
+            String username = usernameOf(i);
+            String uuid = uuidOf(i).toString();
+            PlayerDto player = new PlayerDto(uuid, username, (long) random.nextInt(20_000_000),
+                    format(now.minusDays(1 + random.nextInt(900))), format(now.minusHours(random.nextInt(2000))),
+                    false, random.nextInt(50) == 0 ? List.of("essentials.kit.builder") : new ArrayList<>());
+            putPlayer(player);
+
+            if (random.nextDouble() < options.getGrantedFraction()) {
+                addGrant(new GrantDto(null, uuid, random.nextInt(4) == 0 ? "mvp" : "vip", CONSOLE_UUID, "Store",
+                        format(now.minusDays(random.nextInt(365))), null, "Store purchase", true));
+            }
+            if (random.nextDouble() < options.getTempGrantFraction()) {
+                addGrant(new GrantDto(null, uuid, "mvp", CONSOLE_UUID, "Console",
+                        format(now.minusDays(1)), format(now.plusMinutes(5 + random.nextInt(600))), "Event reward", true));
+            }
+            if (random.nextDouble() < options.getMutedFraction()) {
+                addPunishment(new PunishmentDto(null, uuid, CONSOLE_UUID, "Console", "TEMP_MUTE", "Spam",
+                        3600L, format(now.minusMinutes(10)), format(now.plusMinutes(50)), true, true));
+            }
+        }
+    }
+
+    /**
+     * Gets the UUID of the n-th generated player, e.g. to log in existing players
+     *
+     * @param index The player index
+     * @return The player's UUID
+     */
+    public static UUID uuidOf(int index) {
+        return UUID.nameUUIDFromBytes(("fake-player-" + index).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets the username of the n-th generated player
+     *
+     * @param index The player index
+     * @return The player's username
+     */
+    public static String usernameOf(int index) {
+        return "Player" + index;
+    }
+
+    private void generateRanks() {
+        RankDto member = new RankDto("member", "Member", "Member", "&7", "", 0, true,
+                new ArrayList<>(List.of("core.chat", "core.message", "core.reply", "essentials.spawn", "essentials.home")));
+        RankDto vip = new RankDto("vip", "VIP", "VIP", "&a[VIP]", "", 10, false,
+                new ArrayList<>(List.of("essentials.fly", "essentials.nick", "cosmetics.*", "-cosmetics.admin")));
+        vip.setParents(List.of("member"));
+        RankDto mvp = new RankDto("mvp", "MVP", "MVP", "&b&l[MVP]", "", 20, false,
+                new ArrayList<>(List.of("essentials.kit.mvp", "essentials.hat")));
+        mvp.setParents(List.of("vip"));
+        RankDto mod = new RankDto("mod", "Moderator", "Mod", "&9[Mod]", "", 50, false,
+                new ArrayList<>(List.of("core.punish.mute", "core.punish.kick", "core.staffchat")));
+        mod.setParents(List.of("mvp"));
+        RankDto admin = new RankDto("admin", "Admin", "Admin", "&c&l[Admin]", "", 100, false,
+                new ArrayList<>(List.of("core.*", "essentials.*")));
+        admin.setParents(List.of("mod"));
+        for (RankDto rank : List.of(member, vip, mvp, mod, admin)) {
+            ranks.put(rank.getId(), rank);
+        }
+    }
+
+    // Ranks
+
+    public Collection<RankDto> getRanks() {
+        return ranks.values();
+    }
+
+    public RankDto getRank(String id) {
+        return ranks.get(id);
+    }
+
+    public RankDto getDefaultRank() {
+        return ranks.values().stream()
+                .filter(rank -> Boolean.TRUE.equals(rank.getIsDefault()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public void putRank(RankDto rank) {
+        ranks.put(rank.getId(), rank);
+    }
+
+    public boolean removeRank(String id) {
+        return ranks.remove(id) != null;
+    }
+
+    // Players
+
+    public PlayerDto getPlayer(String uuid) {
+        return players.get(uuid);
+    }
+
+    public PlayerDto getPlayerByUsername(String username) {
+        String uuid = uuidsByUsername.get(username.toLowerCase());
+        return uuid != null ? players.get(uuid) : null;
+    }
+
+    public List<PlayerDto> getOnlinePlayers() {
+        List<PlayerDto> online = new ArrayList<>();
+        for (PlayerDto player : players.values()) {
+            if (Boolean.TRUE.equals(player.getIsOnline())) {
+                online.add(player);
+            }
+        }
+        return online;
+    }
+
+    public List<PlayerDto> getTopByPlaytime(int limit) {
+        return players.values().stream()
+                .sorted(Comparator.comparing((PlayerDto p) -> p.getPlaytimeTicks() != null ? p.getPlaytimeTicks() : 0L).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Creates or updates a profile; a null playtime keeps the stored total
+     */
+    public void putPlayer(PlayerDto player) {
+        PlayerDto existing = players.get(player.getUuid());
+        if (existing != null && player.getPlaytimeTicks() == null) {
+            player.setPlaytimeTicks(existing.getPlaytimeTicks());
+        }
+        players.put(player.getUuid(), player);
+        uuidsByUsername.put(player.getUsername().toLowerCase(), player.getUuid());
+    }
+
+    public boolean removePlayer(String uuid) {
+        PlayerDto removed = players.remove(uuid);
+        if (removed != null) {
+            uuidsByUsername.remove(removed.getUsername().toLowerCase());
+        }
+        return removed != null;
+    }
+
+    public boolean setOnline(String uuid, boolean online) {
+        PlayerDto player = players.get(uuid);
+        if (player == null) {
+            return false;
+        }
+        player.setIsOnline(online);
+        return true;
+    }
+
+    public boolean addPlaytime(String uuid, long ticks) {
+        PlayerDto player = players.get(uuid);
+        if (player == null) {
+            return false;
+        }
+        synchronized (player) {
+            player.setPlaytimeTicks((player.getPlaytimeTicks() != null ? player.getPlaytimeTicks() : 0L) + ticks);
+        }
+        return true;
+    }
+
+    // Grants
+
+    public GrantDto getGrant(int id) {
+        return grants.get(id);
+    }
+
+    public GrantDto addGrant(GrantDto grant) {
+        grant.setId(grantIds.incrementAndGet());
+        if (grant.getIsActive() == null) {
+            grant.setIsActive(true);
+        }
+        grants.put(grant.getId(), grant);
+        grantsByPlayer.computeIfAbsent(grant.getPlayerUuid(), key -> new CopyOnWriteArrayList<>()).add(grant);
+        return grant;
+    }
+
+    public List<GrantDto> getGrants(String playerUuid) {
+        return new ArrayList<>(grantsByPlayer.getOrDefault(playerUuid, List.of()));
+    }
+
+    public List<GrantDto> getActiveGrants(String playerUuid) {
+        List<GrantDto> active = new ArrayList<>();
+        for (GrantDto grant : grantsByPlayer.getOrDefault(playerUuid, List.of())) {
+            if (Boolean.TRUE.equals(grant.getIsActive()) && !isExpired(grant.getExpiresAt())) {
+                active.add(grant);
+            }
+        }
+        return active;
+    }
+
+    public List<GrantDto> getActiveExpiredGrants(String playerUuid) {
+        List<GrantDto> expired = new ArrayList<>();
+        for (GrantDto grant : grantsByPlayer.getOrDefault(playerUuid, List.of())) {
+            if (Boolean.TRUE.equals(grant.getIsActive()) && isExpired(grant.getExpiresAt())) {
+                expired.add(grant);
+            }
+        }
+        return expired;
+    }
+
+    public List<GrantDto> getGrantsByRank(String rankId) {
+        List<GrantDto> result = new ArrayList<>();
+        for (GrantDto grant : grants.values()) {
+            if (rankId.equals(grant.getRankId())) {
+                result.add(grant);
+            }
+        }
+        return result;
+    }
+
+    public boolean setGrantActive(int id, boolean active) {
+        GrantDto grant = grants.get(id);
+        if (grant == null) {
+            return false;
+        }
+        grant.setIsActive(active);
+        return true;
+    }
+
+    public boolean removeGrant(int id) {
+        GrantDto removed = grants.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        List<GrantDto> playerGrants = grantsByPlayer.get(removed.getPlayerUuid());
+        if (playerGrants != null) {
+            playerGrants.remove(removed);
+        }
+        return true;
+    }
+
+    public void removeGrants(String playerUuid) {
+        List<GrantDto> removed = grantsByPlayer.remove(playerUuid);
+        if (removed != null) {
+            for (GrantDto grant : removed) {
+                grants.remove(grant.getId());
+            }
+        }
+    }
+
+    public int deactivateExpiredGrants() {
+        int count = 0;
+        for (GrantDto grant : grants.values()) {
+            if (Boolean.TRUE.equals(grant.getIsActive()) && isExpired(grant.getExpiresAt())) {
+                grant.setIsActive(false);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Punishments
+
+    public PunishmentDto getPunishment(int id) {
+        return punishments.get(id);
+    }
+
+    public PunishmentDto addPunishment(PunishmentDto punishment) {
+        punishment.setId(punishmentIds.incrementAndGet());
+        if (punishment.getIsActive() == null) {
+            punishment.setIsActive(true);
+        }
+        punishments.put(punishment.getId(), punishment);
+        punishmentsByPlayer.computeIfAbsent(punishment.getPlayerUuid(), key -> new CopyOnWriteArrayList<>()).add(punishment);
+        return punishment;
+    }
+
+    public List<PunishmentDto> getPunishments(String playerUuid) {
+        return new ArrayList<>(punishmentsByPlayer.getOrDefault(playerUuid, List.of()));
+    }
+
+    public List<PunishmentDto> getActivePunishments(String playerUuid) {
+        List<PunishmentDto> active = new ArrayList<>();
+        for (PunishmentDto punishment : punishmentsByPlayer.getOrDefault(playerUuid, List.of())) {
+            if (Boolean.TRUE.equals(punishment.getIsActive()) && !isExpired(punishment.getExpiresAt())) {
+                active.add(punishment);
+            }
+        }
+        return active;
+    }
+
+    public List<PunishmentDto> getActiveExpiredPunishments(String playerUuid) {
+        List<PunishmentDto> expired = new ArrayList<>();
+        for (PunishmentDto punishment : punishmentsByPlayer.getOrDefault(playerUuid, List.of())) {
+            if (Boolean.TRUE.equals(punishment.getIsActive()) && isExpired(punishment.getExpiresAt())) {
+                expired.add(punishment);
+            }
+        }
+        return expired;
+    }
+
+    public boolean setPunishmentActive(int id, boolean active) {
+        PunishmentDto punishment = punishments.get(id);
+        if (punishment == null) {
+            return false;
+        }
+        punishment.setIsActive(active);
+        return true;
+    }
+
+    public boolean markExecuted(int id) {
+        PunishmentDto punishment = punishments.get(id);
+        if (punishment == null) {
+            return false;
+        }
+        punishment.setExecuted(true);
+        return true;
+    }
+
+    public boolean removePunishment(int id) {
+        PunishmentDto removed = punishments.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        List<PunishmentDto> playerPunishments = punishmentsByPlayer.get(removed.getPlayerUuid());
+        if (playerPunishments != null) {
+            playerPunishments.remove(removed);
+        }
+        return true;
+    }
+
+    public void removePunishments(String playerUuid) {
+        List<PunishmentDto> removed = punishmentsByPlayer.remove(playerUuid);
+        if (removed != null) {
+            for (PunishmentDto punishment : removed) {
+                punishments.remove(punishment.getId());
+            }
+        }
+    }
+
+    public int deactivateExpiredPunishments() {
+        int count = 0;
+        for (PunishmentDto punishment : punishments.values()) {
+            if (Boolean.TRUE.equals(punishment.getIsActive()) && isExpired(punishment.getExpiresAt())) {
+                punishment.setIsActive(false);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    private static boolean isExpired(String expiresAt) {
+        return expiresAt != null && LocalDateTime.parse(expiresAt, ISO_FORMATTER).isBefore(LocalDateTime.now());
+    }
+
+    private static String format(LocalDateTime time) {
+        return time.format(ISO_FORMATTER);
+    }
+}
@@ -0,0 +1,296 @@
+package club.catmc.core.benchmarks.fakeapi;
+
+import club.catmc.core.shared.dto.ChangeSetDto;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket side of the fake Core API.
+ * Clients send {type, data, serverType, serverName, timestamp}; like the real API, each
+ * message is relayed to every other connected server with the data fields flattened
+ * into the top-level object. CONNECTED advertises BATCH support, and a BATCH frame is
+ * relayed as its individual messages.
+ * <p>
+ * Relayed events are numbered with a "seq" field and the most recent ones are kept, so a
+ * client reconnecting with {@code resume_from=N} gets everything after N replayed, and
+ * {@link #changesSince(long, Collection)} can answer the change feed. The server that sent
+ * an event gets an ACK carrying its seq instead, so its own numbering has no gaps.
+ */
+public class FakeEventServer extends WebSocketServer {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeEventServer.class);
+
+    // Events kept for resumes and the change feed
+    private static final int HISTORY_SIZE = 10_000;
+
+    private final Gson gson;
+    private final String apiKey;
+    private final CountDownLatch started;
+    private final AtomicLong received;
+    private final AtomicLong sent;
+
+    // Guarded by history
+    private final ArrayDeque<RecordedEvent> history;
+    private long seq;
+    private volatile boolean resumeEnabled = true;
+
+    public FakeEventServer(int port, String apiKey) {
+        super(new InetSocketAddress("127.0.0.1", port));
+        this.gson = new Gson();
+        this.apiKey = apiKey;
+        this.started = new CountDownLatch(1);
+        this.received = new AtomicLong();
+        this.sent = new AtomicLong();
+        this.history = new ArrayDeque<>();
+        setReuseAddr(true);
+    }
+
+    /**
+     * Starts the server and waits until it accepts connections
+     */
+    public void startAndWait() throws InterruptedException {
+        start();
+        if (!started.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Fake WebSocket server did not start");
+        }
+    }
+
+    @Override
+    public void onStart() {
+        started.countDown();
+    }
+
+    @Override
+    public void onOpen(WebSocket conn, ClientHandshake handshake) {
+        String descriptor = handshake.getResourceDescriptor();
+        if (apiKey != null && !descriptor.contains("api_key=" + apiKey)) {
+            conn.close(1008, "Invalid API key");
+            return;
+        }
+
+        String name = queryParam(descriptor, "name");
+        conn.setAttachment(name);
+        String resumeFrom = queryParam(descriptor, "resume_from");
+
+        synchronized (history) {
+            long from = resumeFrom != null ? Long.parseLong(resumeFrom) : -1;
+            long oldest = history.isEmpty() ? seq + 1 : history.peekFirst().seq;
+            boolean resumed = resumeEnabled && from >= 0 && from <= seq && from >= oldest - 1;
+
+            JsonObject connected = new JsonObject();
+            connected.addProperty("type", "CONNECTED");
+            connected.addProperty("message", "Connected to fake Core API");
+            connected.addProperty("resumed", resumed);
+            connected.addProperty("batching", true);
+            connected.addProperty("seq", resumed ? from : seq);
+            conn.send(gson.toJson(connected));
+            sent.incrementAndGet();
+
+            if (resumed) {
+                for (RecordedEvent event : history) {
+                    if (event.seq > from) {
+                        conn.send(event.origin.equals(name) ? ack(event.seq) : event.json);
+                        sent.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(WebSocket conn, String message) {
+        received.incrementAndGet();
+        JsonObject json;
+        try {
+            json = gson.fromJson(message, JsonObject.class);
+        } catch (RuntimeException e) {
+            log.warn("[FakeEventServer] Dropping malformed message: {}", e.getMessage());
+            return;
+        }
+        if (json == null || !json.has("type")) {
+            return;
+        }
+
+        // Batched frames carry several messages, each relayed as its own event
+        if ("BATCH".equals(json.get("type").getAsString()) && json.has("messages")) {
+            for (JsonElement item : json.getAsJsonArray("messages")) {
+                if (item.isJsonObject() && item.getAsJsonObject().has("type")) {
+                    relayMessage(conn, item.getAsJsonObject());
+                }
+            }
+            return;
+        }
+        relayMessage(conn, json);
+    }
+
+    private void relayMessage(WebSocket origin, JsonObject json) {
+        JsonObject event = new JsonObject();
+        event.add("type", json.get("type"));
+        if (json.has("data") && json.get("data").isJsonObject()) {
+            for (Map.Entry<String, JsonElement> field : json.getAsJsonObject("data").entrySet()) {
+                event.add(field.getKey(), field.getValue());
+            }
+        }
+        relay(origin, event);
+    }
+
+    /**
+     * Pushes an event to every connected server, as if another server had sent it
+     *
+     * @param type   The event type, e.g. GRANT_CHANGE
+     * @param fields The event fields
+     */
+    public void publish(String type, JsonObject fields) {
+        JsonObject event = new JsonObject();
+        event.addProperty("type", type);
+        for (Map.Entry<String, JsonElement> field : fields.entrySet()) {
+            event.add(field.getKey(), field.getValue());
+        }
+        relay(null, event);
+    }
+
+    /**
+     * Closes every client connection, as if the API had restarted or the network dropped
+     */
+    public void disconnectAll() {
+        for (WebSocket connection : getConnections()) {
+            connection.close(1001, "Going away");
+        }
+    }
+
+    /**
+     * Sets whether reconnecting clients may resume. When disabled, every reconnect gets
+     * {@code resumed: false} and has to resync, as after an API restart.
+     */
+    public void setResumeEnabled(boolean resumeEnabled) {
+        this.resumeEnabled = resumeEnabled;
+    }
+
+    /**
+     * Lists the players and ranks touched by events after a sequence number
+     *
+     * @param sinceSeq The last sequence number the client handled
+     * @param players  The players to report on
+     * @return The change set, or null if the events after sinceSeq are no longer kept
+     */
+    public ChangeSetDto changesSince(long sinceSeq, Collection<String> players) {
+        Set<String> wanted = new HashSet<>(players);
+        Set<String> changedPlayers = new HashSet<>();
+        Set<String> changedRanks = new HashSet<>();
+
+        synchronized (history) {
+            long oldest = history.isEmpty() ? seq + 1 : history.peekFirst().seq;
+            if (sinceSeq < oldest - 1 || sinceSeq > seq) {
+                return null;
+            }
+            for (RecordedEvent event : history) {
+                if (event.seq <= sinceSeq) {
+                    continue;
+                }
+                if (event.playerUuid != null && wanted.contains(event.playerUuid)) {
+                    changedPlayers.add(event.playerUuid);
+                }
+                if (event.rankId != null) {
+                    changedRanks.add(event.rankId);
+                }
+            }
+            return new ChangeSetDto(seq, List.copyOf(changedPlayers), List.copyOf(changedRanks));
+        }
+    }
+
+    private void relay(WebSocket origin, JsonObject event) {
+        String originName = origin != null ? origin.getAttachment() : "";
+        synchronized (history) {
+            event.addProperty("seq", ++seq);
+            String json = gson.toJson(event);
+            history.addLast(new RecordedEvent(seq, originName != null ? originName : "", json,
+                    stringField(event, "playerUuid"), stringField(event, "rankId")));
+            if (history.size() > HISTORY_SIZE) {
+                history.pollFirst();
+            }
+
+            for (WebSocket connection : getConnections()) {
+                if (connection.isOpen()) {
+                    connection.send(connection == origin ? ack(seq) : json);
+                    sent.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private String ack(long eventSeq) {
+        JsonObject ack = new JsonObject();
+        ack.addProperty("type", "ACK");
+        ack.addProperty("seq", eventSeq);
+        return gson.toJson(ack);
+    }
+
+    private static String stringField(JsonObject json, String name) {
+        JsonElement value = json.get(name);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+
+    private static String queryParam(String descriptor, String name) {
+        int query = descriptor.indexOf('?');
+        if (query < 0) {
+            return null;
+        }
+        for (String param : descriptor.substring(query + 1).split("&")) {
+            int eq = param.indexOf('=');
+            if (eq > 0 && param.substring(0, eq).equals(name)) {
+                return param.substring(eq + 1);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+    }
+
+    @Override
+    public void onError(WebSocket conn, Exception ex) {
+        log.warn("[FakeEventServer] {}", ex.getMessage());
+    }
+
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    public long getSentCount() {
+        return sent.get();
+    }
+
+    private static class RecordedEvent {
+        private final long seq;
+        private final String origin;
+        private final String json;
+        private final String playerUuid;
+        private final String rankId;
+
+        private RecordedEvent(long seq, String origin, String json, String playerUuid, String rankId) {
+            this.seq = seq;
+            this.origin = origin;
+            this.json = json;
+            this.playerUuid = playerUuid;
+            this.rankId = rankId;
+        }
+    }
+}
@@ -3,17 +3,25 @@ package club.catmc.core.bukkit;
 import club.catmc.core.bukkit.commands.CoreCommand;
 import club.catmc.core.bukkit.config.ApiConfig;
 import club.catmc.core.bukkit.listener.ChatListener;
+import club.catmc.core.bukkit.listener.CorePluginMessageListener;
 import club.catmc.core.bukkit.listener.PlayerListener;
 import club.catmc.core.bukkit.manager.PlayerManager;
 import club.catmc.core.shared.api.ApiClient;
+import club.catmc.core.shared.api.ApiClientOptions;
 import club.catmc.core.shared.grant.GrantDao;
+import club.catmc.core.shared.messaging.PluginMessage;
+import club.catmc.core.shared.metrics.MetricsRegistry;
 import club.catmc.core.shared.punishment.PunishmentDao;
+import club.catmc.core.shared.player.LoginBundleDao;
 import club.catmc.core.shared.player.PlayerDao;
 import club.catmc.core.shared.rank.RankDao;
+import club.catmc.core.shared.ws.ChangeFeedDao;
 import club.catmc.core.shared.ws.WebSocketManager;
 import co.aikar.commands.PaperCommandManager;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.io.UncheckedIOException;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -21,6 +29,9 @@ import java.util.concurrent.CompletableFuture;
  */
 public class BukkitPlugin extends JavaPlugin {
 
+    private static final long METRICS_DUMP_INTERVAL_TICKS = 20L * 30;
+
+    private MetricsRegistry metrics;
     private ApiClient apiClient;
     private WebSocketManager wsManager;
     private PaperCommandManager commandManager;
@@ -29,6 +40,12 @@ public class BukkitPlugin extends JavaPlugin {
     private GrantDao grantDao;
     private RankDao rankDao;
     private PunishmentDao punishmentDao;
+    private LoginBundleDao loginBundleDao;
+    private ChangeFeedDao changeFeedDao;
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
 
     public ApiClient getApiClient() {
         return apiClient;
@@ -68,8 +85,11 @@ public class BukkitPlugin extends JavaPlugin {
         // Load configuration
         ApiConfig apiConfig = loadApiConfig();
 
+        // Shared by every component that records metrics
+        metrics = new MetricsRegistry();
+
         // Initialize API client
-        apiClient = new ApiClient(apiConfig.getBaseUrl(), apiConfig.getApiKey());
+        apiClient = new ApiClient(apiConfig.getBaseUrl(), apiConfig.getApiKey(), apiConfig.toClientOptions(), metrics);
         getLogger().info("ApiClient initialized with base URL: " + apiConfig.getBaseUrl());
 
         // Initialize WebSocket client
@@ -77,7 +97,8 @@ public class BukkitPlugin extends JavaPlugin {
             apiConfig.getWsUrl(),
             "paper",  // Paper server type
             apiConfig.getServerName(),
-            apiConfig.getApiKey()
+            apiConfig.getApiKey(),
+            metrics
         );
         wsManager.connect();
         getLogger().info("WebSocketManager initialized as 'paper' server");
@@ -87,9 +108,25 @@ public class BukkitPlugin extends JavaPlugin {
         grantDao = new GrantDao(apiClient);
         rankDao = new RankDao(apiClient);
         punishmentDao = new PunishmentDao(apiClient);
+        loginBundleDao = new LoginBundleDao(apiClient, playerDao, grantDao, punishmentDao);
+        changeFeedDao = new ChangeFeedDao(apiClient);
 
         // Initialize PlayerManager
-        playerManager = new PlayerManager(this, playerDao, grantDao, rankDao, wsManager);
+        playerManager = new PlayerManager(this, playerDao, loginBundleDao, grantDao, rankDao, punishmentDao, changeFeedDao,
+                wsManager, metrics);
+
+        // Keep cached mute state current
+        wsManager.onPunishmentExecute(event -> playerManager.getMuteCache()
+                .onPunishmentExecute(event.getPlayerUuid(), event.getPunishmentType()));
+
+        // Apply rank edits incrementally instead of re-downloading every rank
+        wsManager.onRankChange(playerManager::onRankChange);
+
+        // Reload grants changed on other servers
+        wsManager.onGrantChange(playerManager::onGrantChange);
+
+        // Refresh what changed while events were missed
+        wsManager.onResync(playerManager::resync);
         playerManager.initialize().thenRun(() -> {
             getLogger().info("PlayerManager initialized!");
 
@@ -103,6 +140,14 @@ public class BukkitPlugin extends JavaPlugin {
             getServer().getPluginManager().registerEvents(new ChatListener(this, playerManager), this);
             getServer().getPluginManager().registerEvents(new PlayerListener(this, playerManager), this);
 
+            // Listen for core:channel messages from the proxy
+            getServer().getMessenger().registerIncomingPluginChannel(this, PluginMessage.CHANNEL,
+                    new CorePluginMessageListener(this, playerManager));
+
+            // Keep metrics.prom current for the node_exporter textfile collector
+            getServer().getScheduler().runTaskTimerAsynchronously(this, this::writeMetricsQuietly,
+                    METRICS_DUMP_INTERVAL_TICKS, METRICS_DUMP_INTERVAL_TICKS);
+
             getLogger().info("Core Bukkit Plugin enabled!");
         }).exceptionally(e -> {
             getLogger().severe("Failed to initialize: " + e.getMessage());
@@ -136,12 +181,45 @@ public class BukkitPlugin extends JavaPlugin {
      * @return ApiConfig instance
      */
     private ApiConfig loadApiConfig() {
-        return new ApiConfig(
+        ApiConfig apiConfig = new ApiConfig(
                 getConfig().getString("api.base-url", "http://localhost:3000/api"),
                 getConfig().getString("api.api-key", "your-secret-api-key-here"),
                 getConfig().getString("api.ws-url", "ws://localhost:3000/ws"),
                 getConfig().getString("api.server-name", "bukkit-server")
         );
+        apiConfig.setMaxInFlightRequests(getConfig().getInt("api.max-in-flight-requests", ApiClientOptions.DEFAULT_MAX_IN_FLIGHT_REQUESTS));
+        apiConfig.setMaxQueuedRequests(getConfig().getInt("api.max-queued-requests", ApiClientOptions.DEFAULT_MAX_QUEUED_REQUESTS));
+        apiConfig.setRequestTimeoutMillis(getConfig().getLong("api.request-timeout-millis", ApiClientOptions.DEFAULT_REQUEST_TIMEOUT_MILLIS));
+        apiConfig.setMaxRetries(getConfig().getInt("api.max-retries", ApiClientOptions.DEFAULT_MAX_RETRIES));
+        apiConfig.setBreakerFailureThreshold(getConfig().getInt("api.circuit-breaker-failure-threshold", ApiClientOptions.DEFAULT_BREAKER_FAILURE_THRESHOLD));
+        apiConfig.setBreakerOpenMillis(getConfig().getLong("api.circuit-breaker-open-millis", ApiClientOptions.DEFAULT_BREAKER_OPEN_MILLIS));
+        apiConfig.setAcceptCompressedResponses(getConfig().getBoolean("api.compression.accept-compressed-responses", true));
+        apiConfig.setCompressRequests(getConfig().getBoolean("api.compression.compress-requests", false));
+        apiConfig.setCompressionThresholdBytes(getConfig().getInt("api.compression.threshold-bytes", ApiClientOptions.DEFAULT_COMPRESSION_THRESHOLD_BYTES));
+        return apiConfig;
+    }
+
+    /**
+     * Writes the metrics text dump to metrics.prom in the data folder
+     *
+     * @return The written file
+     * @throws UncheckedIOException if the file could not be written
+     */
+    public File writeMetrics() {
+        File file = new File(getDataFolder(), "metrics.prom");
+        metrics.writeTextFile(file.toPath());
+        return file;
+    }
+
+    /**
+     * Writes the periodic metrics dump, logging instead of failing the scheduled task
+     */
+    private void writeMetricsQuietly() {
+        try {
+            writeMetrics();
+        } catch (UncheckedIOException e) {
+            getLogger().warning("Failed to write metrics: " + e.getMessage());
+        }
     }
 
     /**
@@ -158,7 +236,7 @@ public class BukkitPlugin extends JavaPlugin {
         });
 
         // Register commands
-        commandManager.registerCommand(new CoreCommand());
+        commandManager.registerCommand(new CoreCommand(this));
         commandManager.registerCommand(new club.catmc.core.bukkit.commands.RankCommand(this));
         commandManager.registerCommand(new club.catmc.core.bukkit.commands.GrantCommand(this));
     }
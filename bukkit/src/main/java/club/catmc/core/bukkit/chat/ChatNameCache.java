@@ -0,0 +1,93 @@
+package club.catmc.core.bukkit.chat;
+
+import club.catmc.core.shared.metrics.CacheStats;
+import club.catmc.core.shared.player.Player;
+import club.catmc.core.shared.rank.Rank;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches each player's rendered chat name (rank prefix, username and colon) and the
+ * chat renderer built on top of it.
+ * An entry is reused as long as the player's Rank object, its prefix and the username
+ * are unchanged. Rank updates, reloads and inheritance changes all install new Rank
+ * objects rather than mutating the cached ones, so any of them, or a different active
+ * rank, rebuilds the name on the next message.
+ * Names are parsed the same way as before caching: '&' codes are turned into MiniMessage
+ * tags and the result is deserialized, so MiniMessage tags in prefixes keep working.
+ */
+public class ChatNameCache {
+
+    private final Map<UUID, Entry> names;
+    private final CacheStats stats;
+
+    public ChatNameCache() {
+        this.names = new ConcurrentHashMap<>();
+        this.stats = new CacheStats();
+    }
+
+    /**
+     * Gets the chat renderer of a player, rebuilding it if the rank or username changed
+     *
+     * @param player The player
+     * @return The renderer sharing the player's rendered chat name
+     */
+    public RankChatRenderer getRenderer(Player player) {
+        return entry(player).renderer;
+    }
+
+    private Entry entry(Player player) {
+        Rank rank = player.getRank();
+        String prefix = rank != null ? rank.getPrefix() : null;
+        String username = player.getUsername();
+
+        Entry entry = names.get(player.getUuid());
+        if (entry != null && entry.rank == rank && Objects.equals(entry.prefix, prefix)
+                && Objects.equals(entry.username, username)) {
+            stats.hit();
+            return entry;
+        }
+        stats.miss();
+
+        Component name = MiniMessage.miniMessage().deserialize(LegacyText.toMiniMessage(player.getChatName()));
+        entry = new Entry(rank, prefix, username, name);
+        names.put(player.getUuid(), entry);
+        return entry;
+    }
+
+    /**
+     * Drops a player's cached name
+     *
+     * @param uuid The player's UUID
+     */
+    public void invalidate(UUID uuid) {
+        names.remove(uuid);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    private static final class Entry {
+        private final Rank rank;
+        private final String prefix;
+        private final String username;
+        private final RankChatRenderer renderer;
+
+        private Entry(Rank rank, String prefix, String username, Component name) {
+            this.rank = rank;
+            this.prefix = prefix;
+            this.username = username;
+            this.renderer = new RankChatRenderer(name);
+        }
+    }
+}
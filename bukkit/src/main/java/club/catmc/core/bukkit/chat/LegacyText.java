@@ -0,0 +1,75 @@
+package club.catmc.core.bukkit.chat;
+
+/**
+ * Translates '&' color codes as used in rank prefixes into MiniMessage tags in a single pass.
+ * Unknown codes are kept as plain text.
+ */
+public final class LegacyText {
+
+    // Code character to MiniMessage tag, indexed by char; null for unknown codes
+    private static final String[] TAGS = new String[128];
+
+    static {
+        TAGS['0'] = "<black>";
+        TAGS['1'] = "<dark_blue>";
+        TAGS['2'] = "<dark_green>";
+        TAGS['3'] = "<dark_aqua>";
+        TAGS['4'] = "<dark_red>";
+        TAGS['5'] = "<dark_purple>";
+        TAGS['6'] = "<gold>";
+        TAGS['7'] = "<gray>";
+        TAGS['8'] = "<dark_gray>";
+        TAGS['9'] = "<blue>";
+        TAGS['a'] = "<green>";
+        TAGS['b'] = "<aqua>";
+        TAGS['c'] = "<red>";
+        TAGS['d'] = "<light_purple>";
+        TAGS['e'] = "<yellow>";
+        TAGS['f'] = "<white>";
+        TAGS['l'] = "<bold>";
+        TAGS['o'] = "<italic>";
+        TAGS['n'] = "<underlined>";
+        TAGS['m'] = "<strikethrough>";
+        TAGS['k'] = "<obfuscated>";
+        TAGS['r'] = "<reset>";
+    }
+
+    private LegacyText() {
+    }
+
+    /**
+     * Translates a legacy string into MiniMessage tags, replacing each known code with its tag
+     *
+     * @param legacy The string with '&' color codes (may be null)
+     * @return MiniMessage formatted string
+     */
+    public static String toMiniMessage(String legacy) {
+        if (legacy == null) {
+            return "";
+        }
+
+        int length = legacy.length();
+        StringBuilder result = null;
+        int copied = 0;
+        for (int i = 0; i + 1 < length; i++) {
+            if (legacy.charAt(i) != '&') {
+                continue;
+            }
+            char code = legacy.charAt(i + 1);
+            String tag = code < TAGS.length ? TAGS[code] : null;
+            if (tag == null) {
+                continue;
+            }
+            if (result == null) {
+                result = new StringBuilder(length + 32);
+            }
+            result.append(legacy, copied, i).append(tag);
+            copied = i + 2;
+            i++;
+        }
+        if (result == null) {
+            return legacy;
+        }
+        return result.append(legacy, copied, length).toString();
+    }
+}
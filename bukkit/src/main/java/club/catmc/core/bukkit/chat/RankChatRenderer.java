@@ -0,0 +1,40 @@
+package club.catmc.core.bukkit.chat;
+
+import io.papermc.paper.chat.ChatRenderer;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+/**
+ * Renders chat messages as "chat name" + " " + message.
+ * The prefix is built once per chat name and shared by every message, and the sent
+ * message is attached as a child as-is, so rendering allocates a single component.
+ * The output does not depend on the viewer; wrap it with ChatRenderer.viewerUnaware
+ * so Paper renders once per message instead of once per viewer.
+ */
+public final class RankChatRenderer implements ChatRenderer.ViewerUnaware {
+
+    private final Component prefix;
+
+    /**
+     * Creates a renderer for a chat name
+     *
+     * @param chatName The rendered chat name, including the trailing colon
+     */
+    public RankChatRenderer(Component chatName) {
+        this.prefix = Component.textOfChildren(chatName, Component.space());
+    }
+
+    @Override
+    public Component render(Player source, Component sourceDisplayName, Component message) {
+        return Component.textOfChildren(prefix, message);
+    }
+
+    /**
+     * Gets the shared prefix (chat name followed by a space)
+     *
+     * @return The prefix component
+     */
+    public Component getPrefix() {
+        return prefix;
+    }
+}
@@ -1,5 +1,6 @@
 package club.catmc.core.bukkit.commands;
 
+import club.catmc.core.bukkit.BukkitPlugin;
 import co.aikar.commands.BaseCommand;
 import co.aikar.commands.annotation.CommandAlias;
 import co.aikar.commands.annotation.CommandPermission;
@@ -9,8 +10,12 @@ import co.aikar.commands.annotation.Subcommand;
 import co.aikar.commands.annotation.Syntax;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.io.File;
+import java.io.UncheckedIOException;
+
 /**
  * Core command for the Bukkit plugin
  */
@@ -19,6 +24,12 @@ import org.bukkit.entity.Player;
 @Description("Core plugin commands")
 public class CoreCommand extends BaseCommand {
 
+    private final BukkitPlugin plugin;
+
+    public CoreCommand(BukkitPlugin plugin) {
+        this.plugin = plugin;
+    }
+
     /**
      * Default command handler
      *
@@ -28,7 +39,7 @@ public class CoreCommand extends BaseCommand {
     @Description("Shows core plugin help")
     public void onDefault(Player player) {
         player.sendMessage(Component.text("Hello from Core Bukkit Plugin!", NamedTextColor.GREEN));
-        player.sendMessage(Component.text("Usage: /core <reload|version>", NamedTextColor.YELLOW));
+        player.sendMessage(Component.text("Usage: /core <reload|version|metrics>", NamedTextColor.YELLOW));
     }
 
     /**
@@ -54,4 +65,36 @@ public class CoreCommand extends BaseCommand {
         player.sendMessage(Component.text("Core Bukkit Plugin v1.0.0", NamedTextColor.AQUA));
         player.sendMessage(Component.text("Powered by ACF", NamedTextColor.GRAY));
     }
+
+    /**
+     * Metrics command handler
+     *
+     * @param sender The command sender
+     */
+    @Subcommand("metrics")
+    @CommandPermission("core.command.metrics")
+    @Description("Shows API latency, WebSocket rates and cache hit ratios")
+    public void onMetrics(CommandSender sender) {
+        sender.sendMessage(Component.text("=== Core Metrics ===", NamedTextColor.GOLD));
+        for (String line : plugin.getMetrics().summary()) {
+            sender.sendMessage(Component.text(line, NamedTextColor.GRAY));
+        }
+    }
+
+    /**
+     * Metrics dump command handler
+     *
+     * @param sender The command sender
+     */
+    @Subcommand("metrics dump")
+    @CommandPermission("core.command.metrics")
+    @Description("Writes all metrics to metrics.prom")
+    public void onMetricsDump(CommandSender sender) {
+        try {
+            File file = plugin.writeMetrics();
+            sender.sendMessage(Component.text("Metrics written to " + file.getPath(), NamedTextColor.GREEN));
+        } catch (UncheckedIOException e) {
+            sender.sendMessage(Component.text("Failed to write metrics: " + e.getMessage(), NamedTextColor.RED));
+        }
+    }
 }
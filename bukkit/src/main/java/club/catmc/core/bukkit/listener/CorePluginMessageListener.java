@@ -2,6 +2,12 @@ package club.catmc.core.bukkit.listener;
 
 import club.catmc.core.bukkit.BukkitPlugin;
 import club.catmc.core.bukkit.manager.PlayerManager;
+import club.catmc.core.shared.messaging.CoreMessage;
+import club.catmc.core.shared.messaging.GrantChangeMessage;
+import club.catmc.core.shared.messaging.MessageCodec;
+import club.catmc.core.shared.messaging.MessageCodecException;
+import club.catmc.core.shared.messaging.PluginMessage;
+import club.catmc.core.shared.messaging.PrivateChatMessage;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.entity.Player;
@@ -9,11 +15,6 @@ import org.bukkit.plugin.messaging.PluginMessageListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
-import java.io.IOException;
-import java.util.UUID;
-
 /**
  * Handles plugin messages from BungeeCord
  */
@@ -29,36 +30,32 @@ public class CorePluginMessageListener implements PluginMessageListener {
 
     @Override
     public void onPluginMessageReceived(String channel, Player bukkitPlayer, byte[] data) {
-        if (!channel.equals("core:channel")) {
+        if (!channel.equals(PluginMessage.CHANNEL)) {
             return;
         }
 
-        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
-            String messageType = in.readUTF();
-
-            if ("GRANT_CHANGE".equals(messageType)) {
-                String uuidString = in.readUTF();
-                UUID uuid = UUID.fromString(uuidString);
-
-                log.info("[PluginMessage] Received grant change notification for " + uuid);
+        CoreMessage message;
+        try {
+            message = MessageCodec.decode(data);
+        } catch (MessageCodecException e) {
+            log.error("[PluginMessage] Failed to read plugin message: " + e.getMessage());
+            return;
+        }
 
-                // Reload the player's grants and recalculate permissions
-                playerManager.reloadPlayerGrants(uuid);
-            } else if ("PRIVATE_MESSAGE".equals(messageType)) {
-                String senderName = in.readUTF();
-                String formattedMessage = in.readUTF();
+        if (message instanceof GrantChangeMessage grantChange) {
+            log.info("[PluginMessage] Received grant change notification for " + grantChange.getPlayerUuid());
 
-                log.info("[PluginMessage] Received private message from " + senderName + " to " + bukkitPlayer.getName());
+            // Reload the player's grants and recalculate permissions
+            playerManager.reloadPlayerGrants(grantChange.getPlayerUuid());
+        } else if (message instanceof PrivateChatMessage privateMessage) {
+            log.info("[PluginMessage] Received private message from " + privateMessage.getSenderName() + " to " + bukkitPlayer.getName());
 
-                // Display the message to the player using Adventure API
-                Component messageComponent = LegacyComponentSerializer.legacySection().deserialize(formattedMessage);
-                bukkitPlayer.sendMessage(messageComponent);
+            // Display the message to the player using Adventure API
+            Component messageComponent = LegacyComponentSerializer.legacySection().deserialize(privateMessage.getFormattedMessage());
+            bukkitPlayer.sendMessage(messageComponent);
 
-                // Play a message sound
-                bukkitPlayer.playSound(bukkitPlayer.getLocation(), org.bukkit.Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.0f);
-            }
-        } catch (IOException e) {
-            log.error("[PluginMessage] Failed to read plugin message: " + e.getMessage());
+            // Play a message sound
+            bukkitPlayer.playSound(bukkitPlayer.getLocation(), org.bukkit.Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.0f);
         }
     }
 }
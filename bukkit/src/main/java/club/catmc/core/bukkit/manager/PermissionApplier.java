@@ -0,0 +1,96 @@
+package club.catmc.core.bukkit.manager;
+
+import org.bukkit.permissions.PermissionAttachment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies permission changes to a PermissionAttachment as a single bulk update.
+ * Every PermissionAttachment.setPermission call makes Bukkit recalculate all of the
+ * player's permissions, so instead the attachment's backing map is edited directly
+ * and the permissible is recalculated once. If the backing map cannot be accessed,
+ * the diff is applied through the regular API instead.
+ */
+public class PermissionApplier {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionApplier.class);
+
+    // PermissionAttachment's private permission map, or null if unavailable
+    private static final Field PERMISSIONS_FIELD = findPermissionsField();
+
+    private PermissionApplier() {
+    }
+
+    /**
+     * Brings an attachment from the previously applied values to the desired values
+     *
+     * @param attachment The attachment to update
+     * @param applied    Values applied by the previous call (empty for a new attachment)
+     * @param desired    Values that should be applied
+     * @return Number of nodes that were added, changed or removed
+     */
+    public static int apply(PermissionAttachment attachment, Map<String, Boolean> applied, Map<String, Boolean> desired) {
+        Map<String, Boolean> changed = new HashMap<>();
+        for (Map.Entry<String, Boolean> entry : desired.entrySet()) {
+            if (!entry.getValue().equals(applied.get(entry.getKey()))) {
+                changed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String node : applied.keySet()) {
+            if (!desired.containsKey(node)) {
+                removed.add(node);
+            }
+        }
+
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Boolean> backing = backingMap(attachment);
+        if (backing != null) {
+            for (String node : removed) {
+                backing.remove(node);
+            }
+            backing.putAll(changed);
+            attachment.getPermissible().recalculatePermissions();
+        } else {
+            for (String node : removed) {
+                attachment.unsetPermission(node);
+            }
+            for (Map.Entry<String, Boolean> entry : changed.entrySet()) {
+                attachment.setPermission(entry.getKey(), entry.getValue());
+            }
+        }
+        return changed.size() + removed.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Boolean> backingMap(PermissionAttachment attachment) {
+        if (PERMISSIONS_FIELD == null) {
+            return null;
+        }
+        try {
+            return (Map<String, Boolean>) PERMISSIONS_FIELD.get(attachment);
+        } catch (IllegalAccessException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private static Field findPermissionsField() {
+        try {
+            Field field = PermissionAttachment.class.getDeclaredField("permissions");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("[PermissionApplier] Attachment permission map not accessible, falling back to per-node updates: " + e.getMessage());
+            return null;
+        }
+    }
+}
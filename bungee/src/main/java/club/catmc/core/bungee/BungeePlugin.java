@@ -5,13 +5,19 @@ import club.catmc.core.bungee.commands.MessageCommand;
 import club.catmc.core.bungee.commands.ReplyCommand;
 import club.catmc.core.bungee.config.ApiConfig;
 import club.catmc.core.bungee.listener.PlayerListener;
+import club.catmc.core.bungee.listener.PluginMessageListener;
 import club.catmc.core.bungee.manager.MessageManager;
 import club.catmc.core.bungee.manager.PlayerManager;
 import club.catmc.core.shared.api.ApiClient;
+import club.catmc.core.shared.api.ApiClientOptions;
 import club.catmc.core.shared.grant.GrantDao;
+import club.catmc.core.shared.messaging.PluginMessage;
+import club.catmc.core.shared.metrics.MetricsRegistry;
 import club.catmc.core.shared.punishment.PunishmentDao;
+import club.catmc.core.shared.player.LoginBundleDao;
 import club.catmc.core.shared.player.PlayerDao;
 import club.catmc.core.shared.rank.RankDao;
+import club.catmc.core.shared.ws.ChangeFeedDao;
 import club.catmc.core.shared.ws.WebSocketManager;
 import co.aikar.commands.BungeeCommandManager;
 import net.md_5.bungee.api.plugin.Plugin;
@@ -22,14 +28,19 @@ import net.md_5.bungee.config.YamlConfiguration;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Main BungeeCord plugin class
  */
 public class BungeePlugin extends Plugin {
 
+    private static final long METRICS_DUMP_INTERVAL_SECONDS = 30;
+
+    private MetricsRegistry metrics;
     private ApiClient apiClient;
     private WebSocketManager wsManager;
     private BungeeCommandManager commandManager;
@@ -40,6 +51,12 @@ public class BungeePlugin extends Plugin {
     private GrantDao grantDao;
     private RankDao rankDao;
     private PunishmentDao punishmentDao;
+    private LoginBundleDao loginBundleDao;
+    private ChangeFeedDao changeFeedDao;
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
 
     public ApiClient getApiClient() {
         return apiClient;
@@ -86,8 +103,11 @@ public class BungeePlugin extends Plugin {
         // Load API configuration
         ApiConfig apiConfig = loadApiConfig();
 
+        // Shared by every component that records metrics
+        metrics = new MetricsRegistry();
+
         // Initialize API client
-        apiClient = new ApiClient(apiConfig.getBaseUrl(), apiConfig.getApiKey());
+        apiClient = new ApiClient(apiConfig.getBaseUrl(), apiConfig.getApiKey(), apiConfig.toClientOptions(), metrics);
         getLogger().info("ApiClient initialized with base URL: " + apiConfig.getBaseUrl());
 
         // Initialize WebSocket client
@@ -95,7 +115,8 @@ public class BungeePlugin extends Plugin {
             apiConfig.getWsUrl(),
             "bungee",  // Explicit server type
             apiConfig.getServerName(),
-            apiConfig.getApiKey()
+            apiConfig.getApiKey(),
+            metrics
         );
         wsManager.connect();
         getLogger().info("WebSocketManager initialized as 'bungee' proxy");
@@ -105,9 +126,21 @@ public class BungeePlugin extends Plugin {
         grantDao = new GrantDao(apiClient);
         rankDao = new RankDao(apiClient);
         punishmentDao = new PunishmentDao(apiClient);
+        loginBundleDao = new LoginBundleDao(apiClient, playerDao, grantDao, punishmentDao);
+        changeFeedDao = new ChangeFeedDao(apiClient);
 
         // Initialize PlayerManager
-        playerManager = new PlayerManager(this, playerDao, grantDao, rankDao, wsManager);
+        playerManager = new PlayerManager(this, playerDao, loginBundleDao, grantDao, rankDao, changeFeedDao,
+                wsManager, metrics);
+
+        // Apply rank edits incrementally instead of re-downloading every rank
+        wsManager.onRankChange(playerManager::onRankChange);
+
+        // Reload grants changed on other servers
+        wsManager.onGrantChange(playerManager::onGrantChange);
+
+        // Refresh what changed while events were missed
+        wsManager.onResync(playerManager::resync);
         playerManager.initialize().thenRun(() -> {
             getLogger().info("PlayerManager initialized!");
 
@@ -120,6 +153,14 @@ public class BungeePlugin extends Plugin {
             // Register events
             getProxy().getPluginManager().registerListener(this, new PlayerListener(this, playerManager));
 
+            // Listen for core:channel messages from the game servers
+            getProxy().registerChannel(PluginMessage.CHANNEL);
+            getProxy().getPluginManager().registerListener(this, new PluginMessageListener(this, playerManager));
+
+            // Keep metrics.prom current for the node_exporter textfile collector
+            getProxy().getScheduler().schedule(this, this::writeMetricsQuietly,
+                    METRICS_DUMP_INTERVAL_SECONDS, METRICS_DUMP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
             getLogger().info("Core Bungee Plugin enabled!");
         }).exceptionally(e -> {
             getLogger().severe("Failed to initialize: " + e.getMessage());
@@ -181,12 +222,45 @@ public class BungeePlugin extends Plugin {
      * @return ApiConfig instance
      */
     private ApiConfig loadApiConfig() {
-        return new ApiConfig(
+        ApiConfig apiConfig = new ApiConfig(
                 config.getString("api.base-url", "http://localhost:3000/api"),
                 config.getString("api.api-key", "your-secret-api-key-here"),
                 config.getString("api.ws-url", "ws://localhost:3000/ws"),
                 config.getString("api.server-name", "bungee-proxy")
         );
+        apiConfig.setMaxInFlightRequests(config.getInt("api.max-in-flight-requests", ApiClientOptions.DEFAULT_MAX_IN_FLIGHT_REQUESTS));
+        apiConfig.setMaxQueuedRequests(config.getInt("api.max-queued-requests", ApiClientOptions.DEFAULT_MAX_QUEUED_REQUESTS));
+        apiConfig.setRequestTimeoutMillis(config.getLong("api.request-timeout-millis", ApiClientOptions.DEFAULT_REQUEST_TIMEOUT_MILLIS));
+        apiConfig.setMaxRetries(config.getInt("api.max-retries", ApiClientOptions.DEFAULT_MAX_RETRIES));
+        apiConfig.setBreakerFailureThreshold(config.getInt("api.circuit-breaker-failure-threshold", ApiClientOptions.DEFAULT_BREAKER_FAILURE_THRESHOLD));
+        apiConfig.setBreakerOpenMillis(config.getLong("api.circuit-breaker-open-millis", ApiClientOptions.DEFAULT_BREAKER_OPEN_MILLIS));
+        apiConfig.setAcceptCompressedResponses(config.getBoolean("api.compression.accept-compressed-responses", true));
+        apiConfig.setCompressRequests(config.getBoolean("api.compression.compress-requests", false));
+        apiConfig.setCompressionThresholdBytes(config.getInt("api.compression.threshold-bytes", ApiClientOptions.DEFAULT_COMPRESSION_THRESHOLD_BYTES));
+        return apiConfig;
+    }
+
+    /**
+     * Writes the metrics text dump to metrics.prom in the data folder
+     *
+     * @return The written file
+     * @throws UncheckedIOException if the file could not be written
+     */
+    public File writeMetrics() {
+        File file = new File(getDataFolder(), "metrics.prom");
+        metrics.writeTextFile(file.toPath());
+        return file;
+    }
+
+    /**
+     * Writes the periodic metrics dump, logging instead of failing the scheduled task
+     */
+    private void writeMetricsQuietly() {
+        try {
+            writeMetrics();
+        } catch (UncheckedIOException e) {
+            getLogger().warning("Failed to write metrics: " + e.getMessage());
+        }
     }
 
     /**
@@ -203,7 +277,7 @@ public class BungeePlugin extends Plugin {
         });
 
         // Register commands
-        commandManager.registerCommand(new CoreCommand());
+        commandManager.registerCommand(new CoreCommand(this));
         commandManager.registerCommand(new MessageCommand(this));
         commandManager.registerCommand(new ReplyCommand(this));
     }
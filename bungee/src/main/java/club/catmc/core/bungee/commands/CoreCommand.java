@@ -1,5 +1,6 @@
 package club.catmc.core.bungee.commands;
 
+import club.catmc.core.bungee.BungeePlugin;
 import co.aikar.commands.BaseCommand;
 import co.aikar.commands.annotation.CommandAlias;
 import co.aikar.commands.annotation.CommandPermission;
@@ -11,6 +12,9 @@ import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.chat.TextComponent;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 
+import java.io.File;
+import java.io.UncheckedIOException;
+
 /**
  * Core command for the BungeeCord plugin
  */
@@ -19,6 +23,12 @@ import net.md_5.bungee.api.connection.ProxiedPlayer;
 @Description("Core plugin commands")
 public class CoreCommand extends BaseCommand {
 
+    private final BungeePlugin plugin;
+
+    public CoreCommand(BungeePlugin plugin) {
+        this.plugin = plugin;
+    }
+
     /**
      * Default command handler
      *
@@ -28,7 +38,7 @@ public class CoreCommand extends BaseCommand {
     @Description("Shows core plugin help")
     public void onDefault(CommandSender sender) {
         sender.sendMessage(new TextComponent("§aHello from Core Bungee Plugin!"));
-        sender.sendMessage(new TextComponent("§eUsage: /bcore <reload|version|info>"));
+        sender.sendMessage(new TextComponent("§eUsage: /bcore <reload|version|info|metrics>"));
 
         if (sender instanceof ProxiedPlayer player) {
             sender.sendMessage(new TextComponent("§7You are connected to: " + player.getServer().getInfo().getName()));
@@ -71,4 +81,36 @@ public class CoreCommand extends BaseCommand {
         sender.sendMessage(new TextComponent("§7This is a shared Bukkit/Bungee plugin"));
         sender.sendMessage(new TextComponent("§7Author: CatMC"));
     }
+
+    /**
+     * Metrics command handler
+     *
+     * @param sender The command sender
+     */
+    @Subcommand("metrics")
+    @CommandPermission("core.command.metrics")
+    @Description("Shows API latency, WebSocket rates and cache hit ratios")
+    public void onMetrics(CommandSender sender) {
+        sender.sendMessage(new TextComponent("§6=== Core Metrics ==="));
+        for (String line : plugin.getMetrics().summary()) {
+            sender.sendMessage(new TextComponent("§7" + line));
+        }
+    }
+
+    /**
+     * Metrics dump command handler
+     *
+     * @param sender The command sender
+     */
+    @Subcommand("metrics dump")
+    @CommandPermission("core.command.metrics")
+    @Description("Writes all metrics to metrics.prom")
+    public void onMetricsDump(CommandSender sender) {
+        try {
+            File file = plugin.writeMetrics();
+            sender.sendMessage(new TextComponent("§aMetrics written to " + file.getPath()));
+        } catch (UncheckedIOException e) {
+            sender.sendMessage(new TextComponent("§cFailed to write metrics: " + e.getMessage()));
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package club.catmc.core.bungee.commands;
 
 import club.catmc.core.bungee.BungeePlugin;
+import club.catmc.core.shared.messaging.MessageCodec;
+import club.catmc.core.shared.messaging.PluginMessage;
+import club.catmc.core.shared.messaging.PrivateChatMessage;
 import co.aikar.commands.BaseCommand;
 import co.aikar.commands.annotation.CommandAlias;
 import co.aikar.commands.annotation.CommandCompletion;
@@ -12,9 +15,6 @@ import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.chat.TextComponent;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
 import java.util.UUID;
 
 /**
@@ -92,25 +92,8 @@ public class MessageCommand extends BaseCommand {
             return;
         }
 
-        try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-             DataOutputStream out = new DataOutputStream(byteStream)) {
-
-            // Message type: PRIVATE_MESSAGE
-            out.writeUTF("PRIVATE_MESSAGE");
-            // Sender info
-            out.writeUTF(senderUuid.toString());
-            out.writeUTF(senderName);
-            // Message content
-            out.writeUTF(message);
-            // Formatted message (with colors)
-            out.writeUTF(formattedMessage);
-
-            // Send to the target's server
-            target.getServer().sendData("core:channel", byteStream.toByteArray());
-
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to send private message: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // Send to the target's server
+        target.getServer().sendData(PluginMessage.CHANNEL, MessageCodec.encode(
+                new PrivateChatMessage(senderUuid, senderName, message, formattedMessage)));
     }
 }
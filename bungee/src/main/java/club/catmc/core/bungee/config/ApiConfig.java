@@ -1,5 +1,7 @@
 package club.catmc.core.bungee.config;
 
+import club.catmc.core.shared.api.ApiClientOptions;
+
 /**
  * API configuration settings
  */
@@ -9,6 +11,15 @@ public class ApiConfig {
     private String apiKey;
     private String wsUrl;
     private String serverName;
+    private int maxInFlightRequests = ApiClientOptions.DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+    private int maxQueuedRequests = ApiClientOptions.DEFAULT_MAX_QUEUED_REQUESTS;
+    private long requestTimeoutMillis = ApiClientOptions.DEFAULT_REQUEST_TIMEOUT_MILLIS;
+    private int maxRetries = ApiClientOptions.DEFAULT_MAX_RETRIES;
+    private int breakerFailureThreshold = ApiClientOptions.DEFAULT_BREAKER_FAILURE_THRESHOLD;
+    private long breakerOpenMillis = ApiClientOptions.DEFAULT_BREAKER_OPEN_MILLIS;
+    private boolean acceptCompressedResponses = true;
+    private boolean compressRequests = false;
+    private int compressionThresholdBytes = ApiClientOptions.DEFAULT_COMPRESSION_THRESHOLD_BYTES;
 
     public ApiConfig(String baseUrl, String apiKey, String wsUrl, String serverName) {
         this.baseUrl = baseUrl;
@@ -49,6 +60,95 @@ public class ApiConfig {
         this.serverName = serverName;
     }
 
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public void setMaxInFlightRequests(int maxInFlightRequests) {
+        this.maxInFlightRequests = maxInFlightRequests;
+    }
+
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    public void setMaxQueuedRequests(int maxQueuedRequests) {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    public long getRequestTimeoutMillis() {
+        return requestTimeoutMillis;
+    }
+
+    public void setRequestTimeoutMillis(long requestTimeoutMillis) {
+        this.requestTimeoutMillis = requestTimeoutMillis;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    public void setBreakerFailureThreshold(int breakerFailureThreshold) {
+        this.breakerFailureThreshold = breakerFailureThreshold;
+    }
+
+    public long getBreakerOpenMillis() {
+        return breakerOpenMillis;
+    }
+
+    public void setBreakerOpenMillis(long breakerOpenMillis) {
+        this.breakerOpenMillis = breakerOpenMillis;
+    }
+
+    public boolean isAcceptCompressedResponses() {
+        return acceptCompressedResponses;
+    }
+
+    public void setAcceptCompressedResponses(boolean acceptCompressedResponses) {
+        this.acceptCompressedResponses = acceptCompressedResponses;
+    }
+
+    public boolean isCompressRequests() {
+        return compressRequests;
+    }
+
+    public void setCompressRequests(boolean compressRequests) {
+        this.compressRequests = compressRequests;
+    }
+
+    public int getCompressionThresholdBytes() {
+        return compressionThresholdBytes;
+    }
+
+    public void setCompressionThresholdBytes(int compressionThresholdBytes) {
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    /**
+     * Builds the ApiClient options from this configuration
+     */
+    public ApiClientOptions toClientOptions() {
+        ApiClientOptions options = new ApiClientOptions();
+        options.setMaxInFlightRequests(maxInFlightRequests);
+        options.setMaxQueuedRequests(maxQueuedRequests);
+        options.setRequestTimeoutMillis(requestTimeoutMillis);
+        options.setMaxRetries(maxRetries);
+        options.setBreakerFailureThreshold(breakerFailureThreshold);
+        options.setBreakerOpenMillis(breakerOpenMillis);
+        options.setAcceptCompressedResponses(acceptCompressedResponses);
+        options.setCompressRequests(compressRequests);
+        options.setCompressionThresholdBytes(compressionThresholdBytes);
+        return options;
+    }
+
     /**
      * Creates an ApiConfig with default values
      */
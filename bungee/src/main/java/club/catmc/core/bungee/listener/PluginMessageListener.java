@@ -2,17 +2,18 @@ package club.catmc.core.bungee.listener;
 
 import club.catmc.core.bungee.BungeePlugin;
 import club.catmc.core.bungee.manager.PlayerManager;
+import club.catmc.core.shared.messaging.CoreMessage;
+import club.catmc.core.shared.messaging.GrantChangeMessage;
+import club.catmc.core.shared.messaging.MessageCodec;
+import club.catmc.core.shared.messaging.MessageCodecException;
+import club.catmc.core.shared.messaging.PluginMessage;
+import net.md_5.bungee.api.connection.Server;
 import net.md_5.bungee.api.event.PluginMessageEvent;
 import net.md_5.bungee.api.plugin.Listener;
 import net.md_5.bungee.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
-import java.io.IOException;
-import java.util.UUID;
-
 /**
  * Handles plugin messages from Bukkit servers
  */
@@ -29,29 +30,31 @@ public class PluginMessageListener implements Listener {
     @EventHandler
     public void onPluginMessage(PluginMessageEvent event) {
         // Check if the message is on our channel
-        if (!event.getTag().equals("core:channel")) {
+        if (!event.getTag().equals(PluginMessage.CHANNEL)) {
             return;
         }
 
-        // Ignore messages sent from the proxy (to avoid loops)
-        if (event.getSender() instanceof net.md_5.bungee.api.config.ServerInfo) {
+        // Never relay our channel: backend frames stay on the proxy and clients cannot forge them
+        event.setCancelled(true);
+
+        // Only trust messages sent by a backend server
+        if (!(event.getSender() instanceof Server server)) {
             return;
         }
 
-        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(event.getData()))) {
-            String messageType = in.readUTF();
-
-            if ("GRANT_CHANGE".equals(messageType)) {
-                String uuidString = in.readUTF();
-                UUID uuid = UUID.fromString(uuidString);
+        CoreMessage message;
+        try {
+            message = MessageCodec.decode(event.getData());
+        } catch (MessageCodecException e) {
+            log.error("[PluginMessage] Failed to read plugin message from " + server.getInfo().getName() + ": " + e.getMessage());
+            return;
+        }
 
-                log.info("[PluginMessage] Received grant change notification from server for " + uuid);
+        if (message instanceof GrantChangeMessage grantChange) {
+            log.info("[PluginMessage] Received grant change notification from server for " + grantChange.getPlayerUuid());
 
-                // Reload the player's grants and recalculate permissions
-                playerManager.reloadPlayerGrants(uuid);
-            }
-        } catch (IOException e) {
-            log.error("[PluginMessage] Failed to read plugin message: " + e.getMessage());
+            // Reload the player's grants and recalculate permissions
+            playerManager.reloadPlayerGrants(grantChange.getPlayerUuid());
         }
     }
 }
@@ -4,16 +4,28 @@ import club.catmc.core.bungee.BungeePlugin;
 import club.catmc.core.shared.player.Player;
 import club.catmc.core.shared.rank.Rank;
 import club.catmc.core.shared.rank.RankDao;
+import club.catmc.core.shared.rank.RankInheritance;
+import club.catmc.core.shared.rank.RankRegistry;
+import club.catmc.core.shared.player.LoginBundleDao;
 import club.catmc.core.shared.player.PlayerDao;
+import club.catmc.core.shared.player.PlayerWriteBehind;
 import club.catmc.core.shared.grant.GrantDao;
+import club.catmc.core.shared.expiry.ExpiryWheel;
+import club.catmc.core.shared.metrics.CacheStats;
+import club.catmc.core.shared.metrics.LatencyHistogram;
+import club.catmc.core.shared.metrics.MetricsRegistry;
+import club.catmc.core.shared.ws.ChangeFeedDao;
+import club.catmc.core.shared.ws.ChangeSet;
 import club.catmc.core.shared.ws.WebSocketManager;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Manages player profiles, grants, and ranks for the BungeeCord plugin
@@ -24,33 +36,84 @@ public class PlayerManager {
 
     private final BungeePlugin plugin;
     private final PlayerDao playerDao;
+    private final LoginBundleDao loginBundleDao;
     private final GrantDao grantDao;
     private final RankDao rankDao;
+    private final ChangeFeedDao changeFeedDao;
     private final WebSocketManager wsManager;
 
+    // Buffered profile writes, flushed in batches
+    private final PlayerWriteBehind writeBehind;
+
+    // Fires grant expiries for online players
+    private final ExpiryWheel expiryWheel;
+
     // Cache of online players by UUID
     private final Map<UUID, Player> onlinePlayers;
 
-    // Cache of all ranks
-    private final Map<String, Rank> rankCache;
+    // Current snapshot of all ranks; replaced as a whole, never modified
+    private volatile RankRegistry rankRegistry;
+
+    // Serializes writers building the next rank snapshot
+    private final Object rankLock = new Object();
+
+    // Default rank fetched from the API when no cached rank is flagged as default
+    private volatile Rank fallbackDefaultRank;
+
+    // Online players by every rank ID that can affect their active rank, and the reverse
+    private final Map<String, Set<UUID>> rankHolders;
+    private final Map<UUID, Set<String>> heldRanks;
+
+    // Pending re-resolve of each player's active rank at their next grant expiry
+    private final Map<UUID, ExpiryWheel.Timeout> rankExpiryTasks;
+
+    // Load-profile latency, failures and online player lookups
+    private final LatencyHistogram loadLatency;
+    private final LongAdder loadFailures;
+    private final CacheStats playerLookups;
+
+    // Permission values last applied to each proxied player
+    private final Map<UUID, Map<String, Boolean>> appliedPermissions;
 
     /**
      * Creates a new PlayerManager
      *
      * @param plugin The Bungee plugin instance
      * @param playerDao The PlayerDao instance
+     * @param loginBundleDao The LoginBundleDao instance
      * @param grantDao The GrantDao instance
      * @param rankDao The RankDao instance
+     * @param changeFeedDao The ChangeFeedDao instance
      * @param wsManager The WebSocketManager instance
+     * @param metrics The registry to record metrics in
      */
-    public PlayerManager(BungeePlugin plugin, PlayerDao playerDao, GrantDao grantDao, RankDao rankDao, WebSocketManager wsManager) {
+    public PlayerManager(BungeePlugin plugin, PlayerDao playerDao, LoginBundleDao loginBundleDao, GrantDao grantDao,
+                         RankDao rankDao, ChangeFeedDao changeFeedDao, WebSocketManager wsManager,
+                         MetricsRegistry metrics) {
         this.plugin = plugin;
         this.playerDao = playerDao;
+        this.loginBundleDao = loginBundleDao;
         this.grantDao = grantDao;
         this.rankDao = rankDao;
+        this.changeFeedDao = changeFeedDao;
         this.wsManager = wsManager;
+        // Playtime is tracked by the game servers, not the proxy
+        this.writeBehind = new PlayerWriteBehind(playerDao, false);
+        this.writeBehind.start();
+        this.expiryWheel = new ExpiryWheel("Core-Expiry");
         this.onlinePlayers = new ConcurrentHashMap<>();
-        this.rankCache = new ConcurrentHashMap<>();
+        this.rankRegistry = RankRegistry.EMPTY;
+        this.rankHolders = new ConcurrentHashMap<>();
+        this.heldRanks = new ConcurrentHashMap<>();
+        this.appliedPermissions = new ConcurrentHashMap<>();
+        this.rankExpiryTasks = new ConcurrentHashMap<>();
+        this.loadLatency = metrics.histogram("core_player_load_seconds");
+        this.loadFailures = metrics.counter("core_player_load_failures_total");
+        this.playerLookups = new CacheStats();
+        metrics.registerCache("online_players", playerLookups);
+        metrics.gauge("core_players_online", onlinePlayers::size);
+        metrics.gauge("core_player_writes_pending", writeBehind::getPendingCount);
+        metrics.gauge("core_expiry_pending", expiryWheel::size);
     }
 
     /**
@@ -62,11 +125,8 @@ public class PlayerManager {
         log.info("[PlayerManager] Initializing...");
 
         return rankDao.findAll().thenAccept(ranks -> {
-            rankCache.clear();
-            for (Rank rank : ranks) {
-                rankCache.put(rank.getId(), rank);
-            }
-            log.info("[PlayerManager] Loaded " + rankCache.size() + " ranks into cache");
+            replaceRanks(ranks);
+            log.info("[PlayerManager] Loaded " + rankRegistry.size() + " ranks into cache");
         }).exceptionally(e -> {
             log.error("[PlayerManager] Failed to initialize: " + e.getMessage());
             return null;
@@ -83,54 +143,43 @@ public class PlayerManager {
      */
     public CompletableFuture<Player> loadProfile(UUID uuid, String username) {
         log.info("[PlayerManager] Loading profile for: " + username);
+        long start = System.nanoTime();
 
-        return playerDao.findByUuid(uuid).thenComposeAsync(playerOpt -> {
+        return loginBundleDao.load(uuid).thenApply(bundle -> {
             Player player;
 
-            if (playerOpt.isEmpty()) {
+            if (bundle.getPlayer().isEmpty()) {
                 // New player, create profile
                 player = new Player(uuid, username);
                 player.setFirstLoginIfNotSet();
-                player.setOnline(true);
-                player.updateLastLogin();
-
-                return playerDao.save(player).thenApply(v -> {
-                    log.info("[PlayerManager] Created new profile for: " + username);
-                    return player;
-                });
+                log.info("[PlayerManager] Created new profile for: " + username);
             } else {
                 // Existing player
-                player = playerOpt.get();
-                player.setOnline(true);
-                player.updateLastLogin();
-
-                // Save updated status
-                return playerDao.save(player).thenApply(v -> player);
+                player = bundle.getPlayer().get();
             }
-        }).thenCompose(player -> {
-            // Load grants
-            return grantDao.findActiveByPlayer(uuid).thenApply(grants -> {
-                player.setGrants(grants);
-
-                // Set active rank from first valid grant
-                String activeRankId = player.getActiveRankId();
-                if (activeRankId != null) {
-                    Rank rank = rankCache.get(activeRankId);
-                    if (rank != null) {
-                        player.setRank(rank);
-                    }
-                }
 
-                // Cache the player
-                onlinePlayers.put(uuid, player);
+            player.setOnline(true);
+            player.updateLastLogin();
 
-                log.info("[PlayerManager] Loaded profile for " + username +
-                        " with " + grants.size() + " grants, rank: " +
-                        (player.getRank() != null ? player.getRank().getName() : "None"));
+            // Persist login status through the write-behind buffer
+            writeBehind.markOnline(player);
 
-                return player;
-            });
+            player.setGrants(bundle.getGrants());
+
+            // Resolve the highest-priority rank among the valid grants
+            bindRank(player);
+
+            // Cache the player
+            onlinePlayers.put(uuid, player);
+
+            log.info("[PlayerManager] Loaded profile for " + username +
+                    " with " + bundle.getGrants().size() + " grants, rank: " +
+                    (player.getRank() != null ? player.getRank().getName() : "None"));
+
+            loadLatency.recordSince(start);
+            return player;
         }).exceptionally(e -> {
+            loadFailures.increment();
             log.error("[PlayerManager] Failed to load profile for " + username + ": " + e.getMessage());
             return null;
         });
@@ -152,15 +201,14 @@ public class PlayerManager {
 
         log.info("[PlayerManager] Unloading profile for: " + player.getUsername());
 
-        player.setOnline(false);
+        unbindRank(player);
+        appliedPermissions.remove(uuid);
+
         player.updateLastLogin();
 
-        return playerDao.save(player).thenRun(() -> {
-            log.info("[PlayerManager] Saved profile for: " + player.getUsername());
-        }).exceptionally(e -> {
-            log.error("[PlayerManager] Failed to save profile for " + player.getUsername() + ": " + e.getMessage());
-            return null;
-        });
+        // Queue the save; it is flushed in bulk with other pending writes
+        writeBehind.markOffline(player);
+        return CompletableFuture.completedFuture(null);
     }
 
     /**
@@ -170,7 +218,13 @@ public class PlayerManager {
      * @return The Player, or null if not found
      */
     public Player getPlayer(UUID uuid) {
-        return onlinePlayers.get(uuid);
+        Player player = onlinePlayers.get(uuid);
+        if (player != null) {
+            playerLookups.hit();
+        } else {
+            playerLookups.miss();
+        }
+        return player;
     }
 
     /**
@@ -212,16 +266,25 @@ public class PlayerManager {
      * @return The Rank, or null if not found
      */
     public Rank getRank(String rankId) {
-        return rankCache.get(rankId);
+        return rankRegistry.get(rankId);
     }
 
     /**
      * Gets all cached ranks
      *
-     * @return Collection of all ranks
+     * @return Collection of all ranks, highest priority first
      */
     public Collection<Rank> getAllRanks() {
-        return rankCache.values();
+        return rankRegistry.getRanks();
+    }
+
+    /**
+     * Gets the current rank snapshot
+     *
+     * @return The rank registry
+     */
+    public RankRegistry getRankRegistry() {
+        return rankRegistry;
     }
 
     /**
@@ -230,20 +293,309 @@ public class PlayerManager {
      * @return CompletableFuture that completes when refreshed
      */
     public CompletableFuture<Void> refreshRankCache() {
+        return refreshRankCache(false);
+    }
+
+    /**
+     * Refreshes the rank cache from the database
+     *
+     * @param fresh Whether to skip joining a fetch that started before, e.g. after missed events
+     * @return CompletableFuture that completes when refreshed
+     */
+    private CompletableFuture<Void> refreshRankCache(boolean fresh) {
         log.info("[PlayerManager] Refreshing rank cache...");
 
-        return rankDao.findAll().thenAccept(ranks -> {
-            rankCache.clear();
-            for (Rank rank : ranks) {
-                rankCache.put(rank.getId(), rank);
+        return (fresh ? rankDao.refetchAll() : rankDao.findAll()).thenAccept(ranks -> {
+            replaceRanks(ranks);
+            log.info("[PlayerManager] Refreshed rank cache with " + rankRegistry.size() + " ranks (version " + rankRegistry.getVersion() + ")");
+
+            // Online players still hold the old Rank objects
+            for (Player player : onlinePlayers.values()) {
+                rebindRank(player);
             }
-            log.info("[PlayerManager] Refreshed rank cache with " + rankCache.size() + " ranks");
         }).exceptionally(e -> {
             log.error("[PlayerManager] Failed to refresh rank cache: " + e.getMessage());
             return null;
         });
     }
 
+    /**
+     * Applies a single changed rank, re-resolving only that rank and the ranks inheriting from it.
+     * Online players holding an affected rank are rebound and have their permissions recalculated.
+     *
+     * @param rank The new state of the rank
+     * @return IDs of the ranks whose effective permissions changed
+     */
+    public Set<String> updateRank(Rank rank) {
+        Set<String> affected;
+        synchronized (rankLock) {
+            Map<String, Rank> ranks = rankRegistry.toMap();
+            ranks.put(rank.getId(), rank);
+            affected = RankInheritance.invalidate(ranks, rank.getId());
+            rankRegistry = RankRegistry.of(rankRegistry.getVersion() + 1, ranks.values());
+        }
+        rebindPlayers(affected);
+        return affected;
+    }
+
+    /**
+     * Removes a rank from the cache, re-resolving the ranks that inherited from it
+     *
+     * @param rankId The ID of the removed rank
+     * @return IDs of the ranks whose effective permissions changed
+     */
+    public Set<String> removeRank(String rankId) {
+        Set<String> affected;
+        synchronized (rankLock) {
+            Map<String, Rank> ranks = rankRegistry.toMap();
+            ranks.remove(rankId);
+            affected = RankInheritance.invalidate(ranks, rankId);
+            rankRegistry = RankRegistry.of(rankRegistry.getVersion() + 1, ranks.values());
+        }
+        affected.add(rankId);
+        rebindPlayers(affected);
+        return affected;
+    }
+
+    /**
+     * Publishes a new snapshot of all ranks, resolving inheritance once for all of them.
+     * Resolving and publishing share one rankLock section, so the snapshot is built and
+     * published in one step, serialized with updateRank and removeRank.
+     */
+    private void replaceRanks(List<Rank> ranks) {
+        Map<String, Rank> resolved = new HashMap<>();
+        for (Rank rank : ranks) {
+            resolved.put(rank.getId(), rank);
+        }
+
+        synchronized (rankLock) {
+            RankInheritance.resolveAll(resolved);
+            rankRegistry = RankRegistry.of(rankRegistry.getVersion() + 1, resolved.values());
+        }
+
+        if (rankRegistry.getDefaultRank() == null) {
+            loadFallbackDefaultRank();
+        } else {
+            fallbackDefaultRank = null;
+        }
+    }
+
+    /**
+     * Fetches the default rank from the API for players without any applicable grant
+     */
+    private void loadFallbackDefaultRank() {
+        rankDao.findDefaultRank().thenAccept(rank -> {
+            Rank cached = rank.map(r -> rankRegistry.get(r.getId())).orElse(null);
+            fallbackDefaultRank = cached != null ? cached : rank.orElse(null);
+            if (fallbackDefaultRank != null) {
+                log.info("[PlayerManager] Using default rank " + fallbackDefaultRank.getId() + " from the API");
+                for (Player player : onlinePlayers.values()) {
+                    rebindRank(player);
+                }
+            }
+        }).exceptionally(e -> {
+            log.error("[PlayerManager] Failed to load default rank: " + e.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * Rebinds the online players holding one of the given ranks, found through the reverse index
+     */
+    private void rebindPlayers(Set<String> rankIds) {
+        for (String rankId : rankIds) {
+            Set<UUID> holders = rankHolders.get(rankId);
+            if (holders == null) {
+                continue;
+            }
+            for (UUID holder : holders) {
+                Player player = onlinePlayers.get(holder);
+                if (player != null) {
+                    rebindRank(player);
+                }
+            }
+        }
+    }
+
+    /**
+     * Points a player at the cached Rank object for their active rank and reapplies permissions
+     */
+    private void rebindRank(Player player) {
+        bindRank(player);
+        recalculatePermissions(player.getUuid());
+    }
+
+    /**
+     * Resolves a player's active rank, updates the rank holder index and schedules the next re-resolve.
+     * Binds come from HTTP, WebSocket, wheel and main threads; running them inside heldRanks.compute
+     * makes binds and the unload of the same player take turns, so the index and the expiry task
+     * always belong to the same resolve. A player unloaded meanwhile is left unindexed.
+     */
+    private void bindRank(Player player) {
+        heldRanks.compute(player.getUuid(), (uuid, previous) -> {
+            if (!player.isOnline()) {
+                return previous;
+            }
+            RankRegistry ranks = rankRegistry;
+            Rank defaultRank = ranks.getDefaultRank();
+            player.resolveActiveRank(ranks, defaultRank != null ? defaultRank : fallbackDefaultRank);
+            Player.ResolvedRank resolved = player.getResolvedRank();
+
+            // A change to any granted rank (e.g. its priority) can change the active rank
+            Set<String> rankIds = new HashSet<>(resolved.getGrantedRankIds());
+            if (resolved.getRankId() != null) {
+                rankIds.add(resolved.getRankId());
+            }
+            indexRankHolder(uuid, previous, rankIds);
+            scheduleRankExpiry(player, resolved.getNextGrantExpiry());
+            return rankIds.isEmpty() ? null : rankIds;
+        });
+    }
+
+    /**
+     * Drops a player from the rank holder index and cancels their pending re-resolve.
+     * Marking them offline in the same compute stops binds still in flight from indexing them again.
+     */
+    private void unbindRank(Player player) {
+        heldRanks.compute(player.getUuid(), (uuid, previous) -> {
+            player.setOnline(false);
+            indexRankHolder(uuid, previous, Collections.emptySet());
+            cancelRankExpiry(uuid);
+            return null;
+        });
+    }
+
+    /**
+     * Moves a player in the reverse index from the rank IDs they were held under to the new ones.
+     * Only called inside heldRanks.compute for the player.
+     */
+    private void indexRankHolder(UUID uuid, Set<String> previous, Set<String> rankIds) {
+        if (previous != null) {
+            for (String rankId : previous) {
+                if (rankIds.contains(rankId)) {
+                    continue;
+                }
+                rankHolders.computeIfPresent(rankId, (id, holders) -> {
+                    holders.remove(uuid);
+                    return holders.isEmpty() ? null : holders;
+                });
+            }
+        }
+        for (String rankId : rankIds) {
+            if (previous == null || !previous.contains(rankId)) {
+                // Added inside compute so a concurrent removal of the emptied set cannot orphan the add
+                rankHolders.compute(rankId, (id, holders) -> {
+                    Set<UUID> set = holders != null ? holders : ConcurrentHashMap.newKeySet();
+                    set.add(uuid);
+                    return set;
+                });
+            }
+        }
+    }
+
+    /**
+     * Schedules the player's active rank to be resolved again when their next grant expires.
+     * The wheel fires on its own thread, so the re-resolve is handed to the proxy scheduler.
+     */
+    private void scheduleRankExpiry(Player player, LocalDateTime nextExpiry) {
+        UUID uuid = player.getUuid();
+        if (nextExpiry == null) {
+            cancelRankExpiry(uuid);
+            return;
+        }
+        ExpiryWheel.Timeout previous = rankExpiryTasks.put(uuid, expiryWheel.schedule(nextExpiry, () -> {
+            // The wheel marks this timeout fired before running it; a re-bind may have stored a newer one
+            rankExpiryTasks.computeIfPresent(uuid, (id, task) -> task.isExpired() ? null : task);
+            plugin.getProxy().getScheduler().runAsync(plugin, () -> {
+                if (onlinePlayers.get(uuid) == player) {
+                    log.info("[PlayerManager] Grant expired for " + player.getUsername() + ", re-resolving rank");
+                    rebindRank(player);
+                }
+            });
+        }));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void cancelRankExpiry(UUID uuid) {
+        ExpiryWheel.Timeout task = rankExpiryTasks.remove(uuid);
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * Handles a RANK_CHANGE notification by fetching only the changed rank.
+     * A rank that no longer exists is removed from the cache.
+     *
+     * @param rankId The ID of the changed rank
+     * @return CompletableFuture that completes when the change has been applied
+     */
+    public CompletableFuture<Void> onRankChange(String rankId) {
+        return rankDao.refetchById(rankId).thenAccept(rank -> {
+            Set<String> affected = rank.isPresent() ? updateRank(rank.get()) : removeRank(rankId);
+            log.info("[PlayerManager] Applied change to rank " + rankId + " (" + affected.size() + " ranks affected)");
+        }).exceptionally(e -> {
+            log.error("[PlayerManager] Failed to apply change to rank " + rankId + ": " + e.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * Handles a GRANT_CHANGE notification by reloading the player's grants if they are online.
+     * The change is not re-broadcast, since it came from another server.
+     *
+     * @param uuid The player whose grants changed
+     * @return CompletableFuture that completes when the grants have been reloaded
+     */
+    public CompletableFuture<Void> onGrantChange(UUID uuid) {
+        return reloadPlayerGrants(uuid, false);
+    }
+
+    /**
+     * Catches up on WebSocket events missed during a disconnect or gap in the stream.
+     * Only the ranks and online players the change feed reports as changed are reloaded;
+     * if it cannot provide a delta, all ranks and every online player's grants are.
+     * Nothing is re-broadcast, since the other servers get the same changes from the API.
+     *
+     * @param sinceSeq Sequence number of the last event handled, or -1 if unknown
+     * @return CompletableFuture that completes when the resync has been applied
+     */
+    public CompletableFuture<Void> resync(long sinceSeq) {
+        Set<UUID> online = new HashSet<>(onlinePlayers.keySet());
+
+        return changeFeedDao.findChangesSince(sinceSeq, online).thenCompose(changes -> {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+            if (changes.isPresent()) {
+                ChangeSet changeSet = changes.get();
+                for (String rankId : changeSet.getRanks()) {
+                    futures.add(onRankChange(rankId));
+                }
+
+                int changedPlayers = 0;
+                for (UUID uuid : online) {
+                    if (changeSet.getPlayers().contains(uuid)) {
+                        changedPlayers++;
+                        futures.add(reloadPlayerGrants(uuid, false));
+                    }
+                }
+                log.info("[PlayerManager] Resyncing " + changeSet.getRanks().size() + " ranks and " + changedPlayers
+                        + " of " + online.size() + " online players changed after seq " + sinceSeq);
+            } else {
+                log.warn("[PlayerManager] No change feed after seq " + sinceSeq + ", reloading ranks and all "
+                        + online.size() + " online players");
+                futures.add(refreshRankCache(true));
+                for (UUID uuid : online) {
+                    futures.add(reloadPlayerGrants(uuid, false));
+                }
+            }
+
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        });
+    }
+
     /**
      * Reloads a specific player's grants from the database
      *
@@ -251,23 +603,28 @@ public class PlayerManager {
      * @return CompletableFuture that completes when reloaded
      */
     public CompletableFuture<Void> reloadPlayerGrants(UUID uuid) {
+        return reloadPlayerGrants(uuid, true);
+    }
+
+    /**
+     * Reloads a specific player's grants from the database
+     *
+     * @param uuid The player's UUID
+     * @param broadcast Whether to tell the other servers about the change
+     * @return CompletableFuture that completes when reloaded
+     */
+    private CompletableFuture<Void> reloadPlayerGrants(UUID uuid, boolean broadcast) {
         Player player = onlinePlayers.get(uuid);
 
         if (player == null) {
             return CompletableFuture.completedFuture(null);
         }
 
-        return grantDao.findActiveByPlayer(uuid).thenAccept(grants -> {
+        return grantDao.refetchActiveByPlayer(uuid).thenAccept(grants -> {
             player.setGrants(grants);
 
             // Update active rank
-            String activeRankId = player.getActiveRankId();
-            if (activeRankId != null) {
-                Rank rank = rankCache.get(activeRankId);
-                player.setRank(rank);
-            } else {
-                player.setRank(null);
-            }
+            bindRank(player);
 
             log.info("[PlayerManager] Reloaded grants for " + player.getUsername());
 
@@ -275,7 +632,9 @@ public class PlayerManager {
             recalculatePermissions(uuid);
 
             // Notify all Bukkit servers of the grant change
-            notifyServersOfGrantChange(uuid);
+            if (broadcast) {
+                notifyServersOfGrantChange(uuid);
+            }
         }).exceptionally(e -> {
             log.error("[PlayerManager] Failed to reload grants for " + player.getUsername() + ": " + e.getMessage());
             return null;
@@ -296,9 +655,11 @@ public class PlayerManager {
             futures.add(unloadProfile(uuid));
         }
 
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
-            log.info("[PlayerManager] Shutdown complete");
-        });
+        expiryWheel.shutdown();
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenCompose(v -> writeBehind.shutdown())
+                .thenRun(() -> log.info("[PlayerManager] Shutdown complete"));
     }
 
     /**
@@ -315,33 +676,38 @@ public class PlayerManager {
             return;
         }
 
-        // Get all permissions for the player (rank + additional)
-        Set<String> permissions = new HashSet<>();
-
-        // Add rank permissions
-        if (corePlayer.getRank() != null && corePlayer.getRank().getPermissions() != null) {
-            permissions.addAll(corePlayer.getRank().getPermissions());
-        }
-
-        // Add additional permissions
-        if (corePlayer.getAdditionalPermissions() != null) {
-            permissions.addAll(corePlayer.getAdditionalPermissions());
-        }
-
-        // Clear existing permissions and set new ones
-        // Note: BungeeCord doesn't have a way to clear all permissions, so we need to track them
-        // For now, we'll just set the permissions directly
-        for (String permission : permissions) {
-            boolean value = true;
-            // Handle negative permissions (starting with -)
-            if (permission.startsWith("-")) {
-                permission = permission.substring(1);
-                value = false;
+        // Diffing and applying inside compute serializes concurrent updates for the same player,
+        // so each one diffs against what the previous one actually applied
+        int[] changes = new int[1];
+        Map<String, Boolean> desired = appliedPermissions.compute(uuid, (id, applied) -> {
+            if (onlinePlayers.get(uuid) != corePlayer) {
+                // Unloaded meanwhile; leave nothing behind
+                return applied;
+            }
+            Map<String, Boolean> previous = applied != null ? applied : Collections.emptyMap();
+            Map<String, Boolean> values = corePlayer.getPermissionValues();
+
+            // BungeeCord has no way to clear permissions, so only the diff against
+            // the previously applied values is pushed to the proxy
+            for (Map.Entry<String, Boolean> entry : previous.entrySet()) {
+                if (!values.containsKey(entry.getKey()) && entry.getValue()) {
+                    player.setPermission(entry.getKey(), false);
+                    changes[0]++;
+                }
+            }
+            for (Map.Entry<String, Boolean> entry : values.entrySet()) {
+                if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+                    player.setPermission(entry.getKey(), entry.getValue());
+                    changes[0]++;
+                }
             }
-            player.setPermission(permission, value);
+            return values;
+        });
+        if (changes[0] == 0) {
+            return;
         }
 
-        log.info("[PlayerManager] Setup " + permissions.size() + " permissions for " + player.getName() +
+        log.info("[PlayerManager] Applied " + changes[0] + " permission changes (" + desired.size() + " total) for " + player.getName() +
                 " (rank: " + (corePlayer.getRank() != null ? corePlayer.getRank().getName() : "None") + ")");
     }
 
@@ -365,7 +731,22 @@ public class PlayerManager {
     }
 
     /**
-     * Checks if a player has a permission using the Core system
+     * Checks if a permission node was granted to a player by the Core system.
+     * Looks up the applied permission values directly, without wildcard resolution.
+     *
+     * @param uuid The player's UUID
+     * @param permission The exact permission node
+     * @return true if the node is applied as granted
+     */
+    public boolean hasAppliedPermission(UUID uuid, String permission) {
+        Map<String, Boolean> applied = appliedPermissions.get(uuid);
+        return applied != null && Boolean.TRUE.equals(applied.get(permission.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Checks if a player has a permission using the Core system.
+     * Nodes applied to the proxy are answered from the applied set, so the result matches
+     * what BungeeCord itself reports; anything else (wildcards) falls back to the player's index.
      *
      * @param uuid The player's UUID
      * @param permission The permission node
@@ -376,6 +757,12 @@ public class PlayerManager {
         if (corePlayer == null) {
             return false;
         }
+
+        Map<String, Boolean> applied = appliedPermissions.get(uuid);
+        Boolean value = applied != null ? applied.get(permission.toLowerCase(Locale.ROOT)) : null;
+        if (value != null) {
+            return value;
+        }
         return corePlayer.hasPermission(permission);
     }
 
@@ -385,7 +772,7 @@ public class PlayerManager {
      * @param uuid The player's UUID
      */
     private void notifyServersOfGrantChange(UUID uuid) {
-        if (wsManager != null && wsManager.isConnected()) {
+        if (wsManager != null) {
             wsManager.broadcastGrantChange(uuid);
             log.info("[PlayerManager] Broadcast grant change notification for " + uuid);
         }
@@ -1,45 +1,149 @@
 package club.catmc.core.shared.api;
 
+import club.catmc.core.shared.metrics.CacheStats;
+import club.catmc.core.shared.metrics.LatencyHistogram;
+import club.catmc.core.shared.metrics.MetricsRegistry;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  * HTTP client for communicating with the Core REST API.
  * Uses Java 11+ HttpClient with async operations.
+ * Responses are parsed straight from the body stream instead of being buffered into a String,
+ * with gzip/deflate decoding; large request bodies can optionally be gzipped.
+ * Concurrent GETs for the same path are coalesced into one request, and the
+ * number of requests in flight is capped with excess requests queued.
+ * Idempotent requests are retried with backoff, and each endpoint family has a
+ * circuit breaker that fails fast while the API is unhealthy.
+ * Latency, in-flight requests and errors are recorded per route template and verb.
  */
 public class ApiClient {
     private static final Logger log = LoggerFactory.getLogger(ApiClient.class);
+    private static final BooleanSupplier ALWAYS_RETRYABLE = () -> true;
+
+    // Path segments kept as-is in route templates; anything else is an identifier
+    private static final Set<String> ROUTE_LITERALS = Set.of(
+            "players", "grants", "ranks", "punishments", "online", "username", "top-playtime", "batch",
+            "playtime", "login-bundle", "player", "rank", "active", "active-expired", "cleanup-expired",
+            "execute", "default");
 
     private final HttpClient httpClient;
     private final Gson gson;
     private final String baseUrl;
     private final String apiKey;
+    private final Duration requestTimeout;
+    private final RequestLimiter limiter;
+    private final RetryPolicy retryPolicy;
+    private final int breakerFailureThreshold;
+    private final long breakerOpenMillis;
+
+    private final boolean coalesceGets;
+    private final boolean acceptCompressedResponses;
+    private final boolean compressRequests;
+    private final int compressionThresholdBytes;
+
+    // Circuit breakers by endpoint family (first path segment)
+    private final Map<String, CircuitBreaker> breakers;
+
+    // GET requests currently in flight by path and response type
+    private final Map<String, CompletableFuture<?>> inFlightGets;
+
+    private final MetricsRegistry metrics;
+    private final CacheStats coalesceStats;
+
+    // Metrics by verb and route template, e.g. "GET /players/{uuid}"
+    private final Map<String, RouteMetrics> routeMetrics;
 
     /**
-     * Creates a new ApiClient instance.
+     * Creates a new ApiClient instance with default options.
      *
      * @param baseUrl The base URL of the API (e.g., "http://localhost:3000/api")
      * @param apiKey  The API key for authentication
      */
     public ApiClient(String baseUrl, String apiKey) {
+        this(baseUrl, apiKey, ApiClientOptions.createDefault());
+    }
+
+    /**
+     * Creates a new ApiClient instance.
+     *
+     * @param baseUrl The base URL of the API (e.g., "http://localhost:3000/api")
+     * @param apiKey  The API key for authentication
+     * @param options Client tuning options
+     */
+    public ApiClient(String baseUrl, String apiKey, ApiClientOptions options) {
+        this(baseUrl, apiKey, options, new MetricsRegistry());
+    }
+
+    /**
+     * Creates a new ApiClient instance.
+     *
+     * @param baseUrl The base URL of the API (e.g., "http://localhost:3000/api")
+     * @param apiKey  The API key for authentication
+     * @param options Client tuning options
+     * @param metrics The registry to record request metrics in
+     */
+    public ApiClient(String baseUrl, String apiKey, ApiClientOptions options, MetricsRegistry metrics) {
         this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
         this.apiKey = apiKey;
         this.gson = new GsonBuilder()
                 .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
                 .create();
         this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(30))
+                .connectTimeout(Duration.ofMillis(options.getConnectTimeoutMillis()))
                 .build();
-        log.info("ApiClient initialized with base URL: {}", this.baseUrl);
+        this.requestTimeout = Duration.ofMillis(options.getRequestTimeoutMillis());
+        this.limiter = new RequestLimiter(options.getMaxInFlightRequests(), options.getMaxQueuedRequests());
+        this.retryPolicy = new RetryPolicy(options.getMaxRetries(), options.getRetryBaseDelayMillis(), options.getRetryMaxDelayMillis());
+        this.breakerFailureThreshold = options.getBreakerFailureThreshold();
+        this.breakerOpenMillis = options.getBreakerOpenMillis();
+        this.breakers = new ConcurrentHashMap<>();
+        this.coalesceGets = options.isCoalesceGets();
+        this.acceptCompressedResponses = options.isAcceptCompressedResponses();
+        this.compressRequests = options.isCompressRequests();
+        this.compressionThresholdBytes = options.getCompressionThresholdBytes();
+        this.inFlightGets = new ConcurrentHashMap<>();
+        this.metrics = metrics;
+        this.coalesceStats = new CacheStats();
+        this.routeMetrics = new ConcurrentHashMap<>();
+        metrics.gauge("core_api_in_flight", limiter::getInFlight);
+        metrics.gauge("core_api_queued", limiter::getQueued);
+        metrics.registerCache("api_get_coalescing", coalesceStats);
+        log.info("ApiClient initialized with base URL: {} (max in-flight: {})", this.baseUrl, options.getMaxInFlightRequests());
     }
 
     /**
@@ -49,25 +153,7 @@ public class ApiClient {
      * @return CompletableFuture containing the response body
      */
     public CompletableFuture<String> get(String path) {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(baseUrl + path))
-                .header("X-API-Key", apiKey)
-                .header("Accept", "application/json")
-                .timeout(Duration.ofSeconds(30))
-                .GET()
-                .build();
-
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenApply(response -> {
-                    if (response.statusCode() >= 400) {
-                        throw new ApiClientException(response.statusCode(), response.body());
-                    }
-                    return response.body();
-                })
-                .exceptionally(e -> {
-                    log.error("GET request failed: {}{}", baseUrl, path, e);
-                    throw new ApiClientException("GET request failed: " + e.getMessage(), e);
-                });
+        return coalesce(path, () -> sendGet(path, ApiClient::readString, ALWAYS_RETRYABLE), false);
     }
 
     /**
@@ -79,7 +165,7 @@ public class ApiClient {
      * @return CompletableFuture containing the deserialized response
      */
     public <T> CompletableFuture<T> get(String path, Class<T> responseType) {
-        return get(path).thenApply(body -> gson.fromJson(body, responseType));
+        return get(path, (java.lang.reflect.Type) responseType);
     }
 
     /**
@@ -91,7 +177,103 @@ public class ApiClient {
      * @return CompletableFuture containing the deserialized response
      */
     public <T> CompletableFuture<T> get(String path, java.lang.reflect.Type responseType) {
-        return get(path).thenApply(body -> gson.fromJson(body, responseType));
+        return coalesce(path + "#" + responseType.getTypeName(),
+                () -> sendGet(path, in -> readJson(in, responseType), ALWAYS_RETRYABLE), false);
+    }
+
+    /**
+     * Performs a GET request that never joins a request already in flight, for reads that
+     * follow an invalidation: an earlier request may have been answered before the change.
+     * GETs issued after this one can still join it.
+     *
+     * @param path        The endpoint path
+     * @param responseType The type token to deserialize the response to
+     * @param <T>         The type of the response
+     * @return CompletableFuture containing the deserialized response
+     */
+    public <T> CompletableFuture<T> getFresh(String path, java.lang.reflect.Type responseType) {
+        return coalesce(path + "#" + responseType.getTypeName(),
+                () -> sendGet(path, in -> readJson(in, responseType), ALWAYS_RETRYABLE), true);
+    }
+
+    /**
+     * Performs a GET request for a JSON array and hands each element to a callback as soon
+     * as it has been parsed, so the full list is never materialized.
+     * The callback runs on an HTTP client thread. Failures after the first element
+     * are not retried, since the callback has already seen part of the response.
+     *
+     * @param path        The endpoint path
+     * @param elementType The class of each array element
+     * @param consumer    Callback invoked for each element, in order
+     * @param <T>         The type of the elements
+     * @return CompletableFuture containing the number of elements delivered
+     */
+    public <T> CompletableFuture<Integer> getEach(String path, Class<T> elementType, Consumer<? super T> consumer) {
+        AtomicInteger delivered = new AtomicInteger();
+        return sendGet(path, in -> {
+            JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            reader.beginArray();
+            while (reader.hasNext()) {
+                T element = gson.fromJson(reader, elementType);
+                delivered.incrementAndGet();
+                consumer.accept(element);
+            }
+            reader.endArray();
+            return delivered.get();
+        }, () -> delivered.get() == 0);
+    }
+
+    /**
+     * Shares one in-flight GET between concurrent callers with the same key.
+     * A fresh request always starts its own GET and takes over the key, so only later callers join it.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> coalesce(String key, Supplier<CompletableFuture<T>> request, boolean fresh) {
+        if (!coalesceGets) {
+            return request.get();
+        }
+
+        CompletableFuture<T> shared = new CompletableFuture<>();
+        if (fresh) {
+            inFlightGets.put(key, shared);
+        } else {
+            CompletableFuture<T> existing = (CompletableFuture<T>) inFlightGets.putIfAbsent(key, shared);
+            if (existing != null) {
+                coalesceStats.hit();
+                return existing.copy();
+            }
+        }
+        coalesceStats.miss();
+
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            // e.g. a path URI.create rejects; joined callers must not wait on a request never sent
+            inFlightGets.remove(key, shared);
+            shared.completeExceptionally(e);
+            return shared.copy();
+        }
+        response.whenComplete((value, error) -> {
+            inFlightGets.remove(key, shared);
+            if (error != null) {
+                shared.completeExceptionally(error);
+            } else {
+                shared.complete(value);
+            }
+        });
+        return shared.copy();
+    }
+
+    /**
+     * Sends a GET request without coalescing
+     */
+    private <T> CompletableFuture<T> sendGet(String path, BodyReader<T> reader, BooleanSupplier retryable) {
+        HttpRequest request = newRequest(path)
+                .GET()
+                .build();
+
+        return send("GET", path, request, reader, retryable);
     }
 
     /**
@@ -102,28 +284,7 @@ public class ApiClient {
      * @return CompletableFuture containing the response body
      */
     public CompletableFuture<String> post(String path, Object body) {
-        String jsonBody = gson.toJson(body);
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(baseUrl + path))
-                .header("X-API-Key", apiKey)
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json")
-                .timeout(Duration.ofSeconds(30))
-                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                .build();
-
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenApply(response -> {
-                    if (response.statusCode() >= 400) {
-                        throw new ApiClientException(response.statusCode(), response.body());
-                    }
-                    return response.body();
-                })
-                .exceptionally(e -> {
-                    log.error("POST request failed: {}{}", baseUrl, path, e);
-                    throw new ApiClientException("POST request failed: " + e.getMessage(), e);
-                });
+        return send("POST", path, buildJsonRequest("POST", path, body), ApiClient::readString, ALWAYS_RETRYABLE);
     }
 
     /**
@@ -136,7 +297,7 @@ public class ApiClient {
      * @return CompletableFuture containing the deserialized response
      */
     public <T> CompletableFuture<T> post(String path, Object body, Class<T> responseType) {
-        return post(path, body).thenApply(responseBody -> gson.fromJson(responseBody, responseType));
+        return send("POST", path, buildJsonRequest("POST", path, body), in -> readJson(in, responseType), ALWAYS_RETRYABLE);
     }
 
     /**
@@ -147,28 +308,7 @@ public class ApiClient {
      * @return CompletableFuture containing the response body
      */
     public CompletableFuture<String> put(String path, Object body) {
-        String jsonBody = gson.toJson(body);
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(baseUrl + path))
-                .header("X-API-Key", apiKey)
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json")
-                .timeout(Duration.ofSeconds(30))
-                .PUT(HttpRequest.BodyPublishers.ofString(jsonBody))
-                .build();
-
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenApply(response -> {
-                    if (response.statusCode() >= 400) {
-                        throw new ApiClientException(response.statusCode(), response.body());
-                    }
-                    return response.body();
-                })
-                .exceptionally(e -> {
-                    log.error("PUT request failed: {}{}", baseUrl, path, e);
-                    throw new ApiClientException("PUT request failed: " + e.getMessage(), e);
-                });
+        return send("PUT", path, buildJsonRequest("PUT", path, body), ApiClient::readString, ALWAYS_RETRYABLE);
     }
 
     /**
@@ -181,7 +321,7 @@ public class ApiClient {
      * @return CompletableFuture containing the deserialized response
      */
     public <T> CompletableFuture<T> put(String path, Object body, Class<T> responseType) {
-        return put(path, body).thenApply(responseBody -> gson.fromJson(responseBody, responseType));
+        return send("PUT", path, buildJsonRequest("PUT", path, body), in -> readJson(in, responseType), ALWAYS_RETRYABLE);
     }
 
     /**
@@ -191,27 +331,280 @@ public class ApiClient {
      * @return CompletableFuture containing the response body
      */
     public CompletableFuture<String> delete(String path) {
-        HttpRequest request = HttpRequest.newBuilder()
+        HttpRequest request = newRequest(path)
+                .DELETE()
+                .build();
+
+        return send("DELETE", path, request, ApiClient::readString, ALWAYS_RETRYABLE);
+    }
+
+    /**
+     * Creates a request builder with the headers shared by every request
+     */
+    private HttpRequest.Builder newRequest(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(URI.create(baseUrl + path))
                 .header("X-API-Key", apiKey)
                 .header("Accept", "application/json")
-                .timeout(Duration.ofSeconds(30))
-                .DELETE()
+                .timeout(requestTimeout);
+        if (acceptCompressedResponses) {
+            builder.header("Accept-Encoding", "gzip, deflate");
+        }
+        return builder;
+    }
+
+    /**
+     * Builds a request with a JSON body, gzipping it if it is above the compression threshold
+     */
+    private HttpRequest buildJsonRequest(String method, String path, Object body) {
+        byte[] jsonBody = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+
+        HttpRequest.Builder builder = newRequest(path)
+                .header("Content-Type", "application/json");
+        if (compressRequests && jsonBody.length >= compressionThresholdBytes) {
+            jsonBody = gzip(jsonBody);
+            builder.header("Content-Encoding", "gzip");
+        }
+
+        return builder
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(jsonBody))
                 .build();
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            // Cannot happen when writing to memory
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenApply(response -> {
-                    if (response.statusCode() >= 400) {
-                        throw new ApiClientException(response.statusCode(), response.body());
+    /**
+     * Sends a request with retries and circuit breaking, mapping error statuses to ApiClientException
+     */
+    private <T> CompletableFuture<T> send(String method, String path, HttpRequest request,
+                                          BodyReader<T> reader, BooleanSupplier retryable) {
+        retryPolicy.recordRequest();
+        RouteMetrics route = routeMetrics(method, path);
+        route.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        return attempt(method, path, request, reader, retryable, breakerFor(path), 1)
+                .whenComplete((body, e) -> {
+                    route.inFlight.decrementAndGet();
+                    route.latency.recordSince(start);
+                    if (e != null) {
+                        route.errors.increment();
                     }
-                    return response.body();
                 })
                 .exceptionally(e -> {
-                    log.error("DELETE request failed: {}{}", baseUrl, path, e);
-                    throw new ApiClientException("DELETE request failed: " + e.getMessage(), e);
+                    throw failure(method, path, e);
                 });
     }
 
+    /**
+     * Performs a single attempt of a request, scheduling another one if the failure is retryable
+     */
+    private <T> CompletableFuture<T> attempt(String method, String path, HttpRequest request, BodyReader<T> reader,
+                                             BooleanSupplier retryable, CircuitBreaker breaker, int attempt) {
+        if (!breaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new CircuitBreaker.CircuitOpenException(breaker.getName()));
+        }
+
+        // The limiter slot is held until the body has been fully read
+        return limiter.submit(() -> httpClient.sendAsync(request, bodyHandler(reader))
+                        .thenApply(response -> response.body().get()))
+                .handle((body, e) -> {
+                    if (e == null) {
+                        breaker.onSuccess();
+                        return CompletableFuture.completedFuture(body);
+                    }
+
+                    Throwable cause = unwrap(e);
+                    if (cause instanceof RequestLimiter.QueueFullException) {
+                        // Never sent, so it says nothing about the API; retrying would only add load
+                        breaker.onAbandoned();
+                        return CompletableFuture.<T>failedFuture(cause);
+                    }
+                    if (RetryPolicy.isServerFault(cause)) {
+                        breaker.onFailure();
+                    } else {
+                        // Client errors still prove the API is reachable
+                        breaker.onSuccess();
+                    }
+
+                    if (!retryable.getAsBoolean() || !retryPolicy.shouldRetry(method, cause, attempt)) {
+                        return CompletableFuture.<T>failedFuture(cause);
+                    }
+
+                    long delay = retryPolicy.backoffMillis(attempt);
+                    log.warn("{} {}{} failed ({}), retry {} in {}ms", method, baseUrl, path, cause.getMessage(), attempt, delay);
+                    Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS);
+                    return CompletableFuture.supplyAsync(() -> null, delayed)
+                            .thenCompose(v -> attempt(method, path, request, reader, retryable, breaker, attempt + 1));
+                })
+                .thenCompose(future -> future);
+    }
+
+    /**
+     * Creates a body handler that reads successful responses straight from the stream,
+     * transparently decoding gzip and deflate content encodings.
+     * The handler only hands back a deferred read; the blocking read itself happens
+     * once the response has arrived, outside the HTTP client's body subscriber.
+     * Error responses are buffered so their body can be attached to the exception.
+     */
+    private static <T> HttpResponse.BodyHandler<Supplier<T>> bodyHandler(BodyReader<T> reader) {
+        return responseInfo -> {
+            int statusCode = responseInfo.statusCode();
+            String encoding = responseInfo.headers().firstValue("Content-Encoding").orElse(null);
+            if (statusCode >= 400) {
+                return HttpResponse.BodySubscribers.mapping(
+                        HttpResponse.BodySubscribers.ofByteArray(),
+                        bytes -> () -> {
+                            throw new ApiClientException(statusCode, decodeErrorBody(bytes, encoding));
+                        });
+            }
+            return HttpResponse.BodySubscribers.mapping(
+                    HttpResponse.BodySubscribers.ofInputStream(),
+                    in -> () -> {
+                        try (InputStream body = decode(in, encoding)) {
+                            return reader.read(body);
+                        } catch (IOException e) {
+                            throw new ApiClientException("Failed to read response body: " + e.getMessage(), e);
+                        }
+                    });
+        };
+    }
+
+    /**
+     * Wraps a response stream in a decoder for its Content-Encoding
+     */
+    private static InputStream decode(InputStream in, String encoding) throws IOException {
+        if (encoding == null || encoding.equalsIgnoreCase("identity")) {
+            return in;
+        }
+
+        PushbackInputStream pushback = new PushbackInputStream(in, 2);
+        int first = pushback.read();
+        if (first < 0) {
+            // Empty body (e.g. Content-Length: 0) has no header to decode
+            return pushback;
+        }
+        int second = pushback.read();
+        if (second >= 0) {
+            pushback.unread(second);
+        }
+        pushback.unread(first);
+
+        if (encoding.equalsIgnoreCase("gzip") || encoding.equalsIgnoreCase("x-gzip")) {
+            return new GZIPInputStream(pushback, 8192);
+        }
+        if (encoding.equalsIgnoreCase("deflate")) {
+            // "deflate" should be zlib-wrapped, but some servers send raw deflate data
+            boolean zlib = second >= 0 && (first & 0x0F) == 8 && ((first << 8) | second) % 31 == 0;
+            Inflater inflater = new Inflater(!zlib);
+            // InflaterInputStream only ends inflaters it created itself, so free the native memory here
+            return new InflaterInputStream(pushback, inflater, 8192) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inflater.end();
+                    }
+                }
+            };
+        }
+        throw new IOException("Unsupported Content-Encoding: " + encoding);
+    }
+
+    private static String decodeErrorBody(byte[] bytes, String encoding) {
+        try (InputStream in = decode(new ByteArrayInputStream(bytes), encoding)) {
+            return readString(in);
+        } catch (IOException e) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String readString(InputStream in) throws IOException {
+        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private <T> T readJson(InputStream in, java.lang.reflect.Type type) {
+        return gson.fromJson(new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8)), type);
+    }
+
+    /**
+     * Gets the circuit breaker for the endpoint family of a path
+     */
+    private CircuitBreaker breakerFor(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        String family = "/" + (end < 0 ? path.substring(start) : path.substring(start, end));
+        return breakers.computeIfAbsent(family, name -> new CircuitBreaker(name, breakerFailureThreshold, breakerOpenMillis));
+    }
+
+    private RouteMetrics routeMetrics(String method, String path) {
+        String route = routeTemplate(path);
+        return routeMetrics.computeIfAbsent(method + " " + route, key -> new RouteMetrics(metrics, method, route));
+    }
+
+    /**
+     * Replaces the identifiers in a path with placeholders, e.g. "/players/{uuid}/login-bundle",
+     * so that metrics are kept per endpoint rather than per player
+     */
+    static String routeTemplate(String path) {
+        int query = path.indexOf('?');
+        String[] segments = (query < 0 ? path : path.substring(0, query)).split("/");
+        StringBuilder route = new StringBuilder(path.length());
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            route.append('/');
+            if (ROUTE_LITERALS.contains(segment)) {
+                route.append(segment);
+            } else if (segment.length() == 36 && segment.charAt(8) == '-') {
+                route.append("{uuid}");
+            } else if (segment.chars().allMatch(Character::isDigit)) {
+                route.append("{id}");
+            } else {
+                route.append("{name}");
+            }
+        }
+        return route.length() == 0 ? "/" : route.toString();
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    /**
+     * Logs a failed request and converts the failure to an ApiClientException.
+     * HTTP errors keep their original status code so callers can react to it.
+     */
+    private ApiClientException failure(String method, String path, Throwable e) {
+        Throwable cause = unwrap(e);
+        if (cause instanceof CircuitBreaker.CircuitOpenException circuitOpen) {
+            // Logged at debug to avoid flooding the console while the API is down
+            log.debug("{} request rejected: {}{} ({})", method, baseUrl, path, circuitOpen.getMessage());
+            return circuitOpen;
+        }
+        if (cause instanceof RequestLimiter.QueueFullException queueFull) {
+            // Logged at debug like an open circuit; core_api_queued shows the backlog
+            log.debug("{} request rejected: {}{} ({})", method, baseUrl, path, queueFull.getMessage());
+            return queueFull;
+        }
+        if (cause instanceof ApiClientException apiException) {
+            log.error("{} request failed: {}{} ({})", method, baseUrl, path, apiException.getMessage());
+            return apiException;
+        }
+        log.error("{} request failed: {}{}", method, baseUrl, path, e);
+        return new ApiClientException(method + " request failed: " + e.getMessage(), e);
+    }
+
     /**
      * Gets the Gson instance for custom serialization/deserialization.
      *
@@ -221,6 +614,35 @@ public class ApiClient {
         return gson;
     }
 
+    /**
+     * Gets the number of requests currently running against the API.
+     *
+     * @return Running request count
+     */
+    public int getInFlightRequests() {
+        return limiter.getInFlight();
+    }
+
+    /**
+     * Gets the number of requests waiting for a free slot.
+     *
+     * @return Queued request count
+     */
+    public int getQueuedRequests() {
+        return limiter.getQueued();
+    }
+
+    /**
+     * Gets the state of the circuit breaker for an endpoint family.
+     *
+     * @param family The endpoint family (e.g. "/players")
+     * @return The breaker state, CLOSED if no request has been made yet
+     */
+    public CircuitBreaker.State getCircuitState(String family) {
+        CircuitBreaker breaker = breakers.get(family);
+        return breaker != null ? breaker.getState() : CircuitBreaker.State.CLOSED;
+    }
+
     /**
      * Checks if the API client is connected (always returns true for HTTP).
      *
@@ -230,6 +652,29 @@ public class ApiClient {
         return true;
     }
 
+    /**
+     * Metrics of one verb and route template
+     */
+    private static final class RouteMetrics {
+        private final LatencyHistogram latency;
+        private final AtomicLong inFlight;
+        private final LongAdder errors;
+
+        private RouteMetrics(MetricsRegistry metrics, String method, String route) {
+            this.latency = metrics.histogram("core_api_request_seconds", "method", method, "route", route);
+            this.inFlight = metrics.gaugeValue("core_api_route_in_flight", "method", method, "route", route);
+            this.errors = metrics.counter("core_api_errors_total", "method", method, "route", route);
+        }
+    }
+
+    /**
+     * Reads a response body from its stream.
+     */
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream in) throws IOException;
+    }
+
     /**
      * Exception thrown when API requests fail.
      */
@@ -0,0 +1,144 @@
+package club.catmc.core.shared.api;
+
+/**
+ * Tuning options for the ApiClient.
+ * Defaults are safe for a single server; proxies with many backends may want a higher cap.
+ */
+public class ApiClientOptions {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 32;
+    public static final int DEFAULT_MAX_QUEUED_REQUESTS = 4096;
+    public static final long DEFAULT_CONNECT_TIMEOUT_MILLIS = 5000L;
+    public static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 10000L;
+    public static final int DEFAULT_MAX_RETRIES = 2;
+    public static final long DEFAULT_RETRY_BASE_DELAY_MILLIS = 200L;
+    public static final long DEFAULT_RETRY_MAX_DELAY_MILLIS = 3000L;
+    public static final int DEFAULT_BREAKER_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_BREAKER_OPEN_MILLIS = 10000L;
+    public static final int DEFAULT_COMPRESSION_THRESHOLD_BYTES = 1024;
+
+    private int maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+    private int maxQueuedRequests = DEFAULT_MAX_QUEUED_REQUESTS;
+    private boolean coalesceGets = true;
+    private long connectTimeoutMillis = DEFAULT_CONNECT_TIMEOUT_MILLIS;
+    private long requestTimeoutMillis = DEFAULT_REQUEST_TIMEOUT_MILLIS;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private long retryBaseDelayMillis = DEFAULT_RETRY_BASE_DELAY_MILLIS;
+    private long retryMaxDelayMillis = DEFAULT_RETRY_MAX_DELAY_MILLIS;
+    private int breakerFailureThreshold = DEFAULT_BREAKER_FAILURE_THRESHOLD;
+    private long breakerOpenMillis = DEFAULT_BREAKER_OPEN_MILLIS;
+    private boolean acceptCompressedResponses = true;
+    private boolean compressRequests = false;
+    private int compressionThresholdBytes = DEFAULT_COMPRESSION_THRESHOLD_BYTES;
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public void setMaxInFlightRequests(int maxInFlightRequests) {
+        this.maxInFlightRequests = maxInFlightRequests;
+    }
+
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    public void setMaxQueuedRequests(int maxQueuedRequests) {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    public boolean isCoalesceGets() {
+        return coalesceGets;
+    }
+
+    public void setCoalesceGets(boolean coalesceGets) {
+        this.coalesceGets = coalesceGets;
+    }
+
+    public long getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public void setConnectTimeoutMillis(long connectTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+    }
+
+    public long getRequestTimeoutMillis() {
+        return requestTimeoutMillis;
+    }
+
+    public void setRequestTimeoutMillis(long requestTimeoutMillis) {
+        this.requestTimeoutMillis = requestTimeoutMillis;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public long getRetryBaseDelayMillis() {
+        return retryBaseDelayMillis;
+    }
+
+    public void setRetryBaseDelayMillis(long retryBaseDelayMillis) {
+        this.retryBaseDelayMillis = retryBaseDelayMillis;
+    }
+
+    public long getRetryMaxDelayMillis() {
+        return retryMaxDelayMillis;
+    }
+
+    public void setRetryMaxDelayMillis(long retryMaxDelayMillis) {
+        this.retryMaxDelayMillis = retryMaxDelayMillis;
+    }
+
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    public void setBreakerFailureThreshold(int breakerFailureThreshold) {
+        this.breakerFailureThreshold = breakerFailureThreshold;
+    }
+
+    public long getBreakerOpenMillis() {
+        return breakerOpenMillis;
+    }
+
+    public void setBreakerOpenMillis(long breakerOpenMillis) {
+        this.breakerOpenMillis = breakerOpenMillis;
+    }
+
+    public boolean isAcceptCompressedResponses() {
+        return acceptCompressedResponses;
+    }
+
+    public void setAcceptCompressedResponses(boolean acceptCompressedResponses) {
+        this.acceptCompressedResponses = acceptCompressedResponses;
+    }
+
+    public boolean isCompressRequests() {
+        return compressRequests;
+    }
+
+    public void setCompressRequests(boolean compressRequests) {
+        this.compressRequests = compressRequests;
+    }
+
+    public int getCompressionThresholdBytes() {
+        return compressionThresholdBytes;
+    }
+
+    public void setCompressionThresholdBytes(int compressionThresholdBytes) {
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    /**
+     * Creates ApiClientOptions with default values
+     */
+    public static ApiClientOptions createDefault() {
+        return new ApiClientOptions();
+    }
+}
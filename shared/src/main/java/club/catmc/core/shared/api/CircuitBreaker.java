@@ -0,0 +1,121 @@
+package club.catmc.core.shared.api;
+
+/**
+ * Circuit breaker for one family of API endpoints (e.g. "/players").
+ * After a run of consecutive server faults the circuit opens and requests fail fast.
+ * Once the open period has passed a single probe request is let through;
+ * its outcome decides whether the circuit closes again or stays open.
+ */
+public class CircuitBreaker {
+
+    /**
+     * Breaker states
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * Creates a new CircuitBreaker
+     *
+     * @param name             The endpoint family this breaker protects
+     * @param failureThreshold Consecutive failures that open the circuit
+     * @param openMillis       How long the circuit stays open before probing
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Checks if a request may be sent, claiming the probe slot when half-open
+     *
+     * @return true if the request may proceed
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            case HALF_OPEN:
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * Records a request that reached a healthy API (including client errors)
+     */
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    /**
+     * Records a request that was let through but never sent, freeing the probe slot
+     * without counting towards either outcome
+     */
+    public synchronized void onAbandoned() {
+        probeInFlight = false;
+    }
+
+    /**
+     * Records a server fault
+     */
+    public synchronized void onFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Gets the current state
+     *
+     * @return The breaker state
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Exception thrown when a request is rejected because the circuit is open.
+     */
+    public static class CircuitOpenException extends ApiClient.ApiClientException {
+
+        private static final long serialVersionUID = 1L;
+
+        public CircuitOpenException(String name) {
+            super("Circuit open for " + name + ", failing fast", null);
+        }
+    }
+}
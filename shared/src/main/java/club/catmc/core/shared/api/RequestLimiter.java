@@ -0,0 +1,146 @@
+package club.catmc.core.shared.api;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of concurrently running requests.
+ * Requests over the cap are queued in FIFO order and started as earlier ones complete,
+ * without blocking the calling thread. Queued requests are started from a loop rather than
+ * from the completion of the previous one, so a long queue does not grow the stack.
+ * The queue itself is bounded: once it is full, new requests fail fast with a {@link QueueFullException}.
+ */
+public class RequestLimiter {
+
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final Queue<Runnable> waiting;
+    // Requests that were handed a freed slot and are about to be started by the draining thread
+    private final Queue<Runnable> ready;
+    private boolean draining;
+    private int inFlight;
+
+    /**
+     * Creates a new RequestLimiter
+     *
+     * @param maxInFlight Maximum number of requests running at once (at least 1)
+     * @param maxQueued   Maximum number of requests waiting for a slot (at least 0)
+     */
+    public RequestLimiter(int maxInFlight, int maxQueued) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxQueued = Math.max(0, maxQueued);
+        this.waiting = new ArrayDeque<>();
+        this.ready = new ArrayDeque<>();
+    }
+
+    /**
+     * Runs a request as soon as a slot is free
+     *
+     * @param request Supplier that starts the request
+     * @param <T>     The type of the response
+     * @return CompletableFuture completed with the request's result,
+     * or failed with a QueueFullException if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = () -> start(request, result);
+
+        boolean runNow;
+        synchronized (this) {
+            runNow = inFlight < maxInFlight;
+            if (runNow) {
+                inFlight++;
+            } else if (waiting.size() >= maxQueued) {
+                return CompletableFuture.failedFuture(new QueueFullException(waiting.size()));
+            } else {
+                waiting.add(task);
+            }
+        }
+
+        if (runNow) {
+            task.run();
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of requests currently running
+     *
+     * @return Running request count
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Gets the number of requests waiting for a slot
+     *
+     * @return Queued request count
+     */
+    public synchronized int getQueued() {
+        return waiting.size();
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (Throwable e) {
+            release();
+            result.completeExceptionally(e);
+            return;
+        }
+
+        future.whenComplete((value, error) -> {
+            release();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void release() {
+        synchronized (this) {
+            Runnable next = waiting.poll();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+            // The freed slot is handed straight to the next queued request
+            ready.add(next);
+            if (draining) {
+                // A request that completes while being started lands here; the loop below picks it up
+                return;
+            }
+            draining = true;
+        }
+
+        while (true) {
+            Runnable task;
+            synchronized (this) {
+                task = ready.poll();
+                if (task == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            task.run();
+        }
+    }
+
+    /**
+     * Exception thrown when a request is rejected because the queue is full.
+     */
+    public static class QueueFullException extends ApiClient.ApiClientException {
+
+        private static final long serialVersionUID = 1L;
+
+        public QueueFullException(int queued) {
+            super("Request queue full (" + queued + " waiting), failing fast", null);
+        }
+    }
+}
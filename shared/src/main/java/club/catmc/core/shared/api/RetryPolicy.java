@@ -0,0 +1,123 @@
+package club.catmc.core.shared.api;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides whether a failed request may be retried and how long to wait before doing so.
+ * Only idempotent verbs are retried, with exponential backoff and full jitter.
+ * A shared retry budget limits retries to a fraction of overall traffic so that
+ * retries cannot multiply load on an API that is already struggling.
+ */
+public class RetryPolicy {
+
+    // Budget is kept in tenths of a retry: every request earns one tenth, a retry costs a whole one
+    private static final int BUDGET_PER_REQUEST = 1;
+    private static final int BUDGET_PER_RETRY = 10;
+    private static final int BUDGET_MAX = 100;
+
+    private final int maxRetries;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final AtomicInteger budget;
+
+    /**
+     * Creates a new RetryPolicy
+     *
+     * @param maxRetries      Maximum number of retries per request (0 disables retries)
+     * @param baseDelayMillis Backoff ceiling for the first retry
+     * @param maxDelayMillis  Upper bound for the backoff ceiling
+     */
+    public RetryPolicy(int maxRetries, long baseDelayMillis, long maxDelayMillis) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.baseDelayMillis = Math.max(1, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+        this.budget = new AtomicInteger(BUDGET_MAX);
+    }
+
+    /**
+     * Records a new (non-retry) request, adding to the retry budget
+     */
+    public void recordRequest() {
+        budget.updateAndGet(current -> Math.min(BUDGET_MAX, current + BUDGET_PER_REQUEST));
+    }
+
+    /**
+     * Checks if a failed attempt should be retried, consuming retry budget if so
+     *
+     * @param method  The HTTP method
+     * @param failure The failure cause
+     * @param attempt The attempt that failed (1 for the first try)
+     * @return true if the request should be retried
+     */
+    public boolean shouldRetry(String method, Throwable failure, int attempt) {
+        if (attempt > maxRetries || !isIdempotent(method) || !isRetryable(failure)) {
+            return false;
+        }
+
+        while (true) {
+            int current = budget.get();
+            if (current < BUDGET_PER_RETRY) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - BUDGET_PER_RETRY)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gets the delay before the next attempt, using full jitter
+     *
+     * @param attempt The attempt that failed (1 for the first try)
+     * @return Delay in milliseconds
+     */
+    public long backoffMillis(int attempt) {
+        long ceiling = baseDelayMillis << Math.min(attempt - 1, 20);
+        if (ceiling <= 0 || ceiling > maxDelayMillis) {
+            ceiling = maxDelayMillis;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Checks if a verb is safe to repeat
+     *
+     * @param method The HTTP method
+     * @return true for GET, PUT and DELETE
+     */
+    public static boolean isIdempotent(String method) {
+        return "GET".equals(method) || "PUT".equals(method) || "DELETE".equals(method);
+    }
+
+    /**
+     * Checks if a failure is worth retrying: transport errors, 5xx and 429
+     *
+     * @param failure The failure cause
+     * @return true if retrying may succeed
+     */
+    public static boolean isRetryable(Throwable failure) {
+        if (failure instanceof ApiClient.ApiClientException ex && ex.getStatusCode() == 429) {
+            return true;
+        }
+        return isServerFault(failure);
+    }
+
+    /**
+     * Checks if a failure indicates that the API itself is unhealthy
+     * (transport errors and 5xx, but not client errors)
+     *
+     * @param failure The failure cause
+     * @return true if the failure should count against the circuit breaker
+     */
+    public static boolean isServerFault(Throwable failure) {
+        if (failure instanceof CircuitBreaker.CircuitOpenException) {
+            return false;
+        }
+        if (failure instanceof ApiClient.ApiClientException ex) {
+            return ex.getStatusCode() >= 500 || (ex.getStatusCode() == -1 && ex.getCause() instanceof IOException);
+        }
+        return failure instanceof IOException;
+    }
+}
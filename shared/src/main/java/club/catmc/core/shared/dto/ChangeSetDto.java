@@ -0,0 +1,46 @@
+package club.catmc.core.shared.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the event change feed.
+ * Lists the players and ranks that changed after a sequence number, up to {@code seq}.
+ */
+public class ChangeSetDto {
+    private long seq;
+    private List<String> players;
+    private List<String> ranks;
+
+    public ChangeSetDto() {
+    }
+
+    public ChangeSetDto(long seq, List<String> players, List<String> ranks) {
+        this.seq = seq;
+        this.players = players;
+        this.ranks = ranks;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public List<String> getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(List<String> players) {
+        this.players = players;
+    }
+
+    public List<String> getRanks() {
+        return ranks;
+    }
+
+    public void setRanks(List<String> ranks) {
+        this.ranks = ranks;
+    }
+}
@@ -0,0 +1,46 @@
+package club.catmc.core.shared.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the composite login bundle.
+ * Carries a player's profile, active grants and active punishments in one response.
+ */
+public class LoginBundleDto {
+    private PlayerDto player;
+    private List<GrantDto> grants;
+    private List<PunishmentDto> punishments;
+
+    public LoginBundleDto() {
+    }
+
+    public LoginBundleDto(PlayerDto player, List<GrantDto> grants, List<PunishmentDto> punishments) {
+        this.player = player;
+        this.grants = grants;
+        this.punishments = punishments;
+    }
+
+    public PlayerDto getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(PlayerDto player) {
+        this.player = player;
+    }
+
+    public List<GrantDto> getGrants() {
+        return grants;
+    }
+
+    public void setGrants(List<GrantDto> grants) {
+        this.grants = grants;
+    }
+
+    public List<PunishmentDto> getPunishments() {
+        return punishments;
+    }
+
+    public void setPunishments(List<PunishmentDto> punishments) {
+        this.punishments = punishments;
+    }
+}
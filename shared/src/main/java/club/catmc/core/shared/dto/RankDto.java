@@ -15,6 +15,7 @@ public class RankDto {
     private Integer priority;
     private Boolean isDefault;
     private List<String> permissions;
+    private List<String> parents;
 
     public RankDto() {
     }
@@ -94,6 +95,14 @@ public class RankDto {
         this.permissions = permissions;
     }
 
+    public List<String> getParents() {
+        return parents;
+    }
+
+    public void setParents(List<String> parents) {
+        this.parents = parents;
+    }
+
     /**
      * Simple response wrapper for API success responses.
      */
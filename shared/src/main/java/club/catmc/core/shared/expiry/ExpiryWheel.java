@@ -0,0 +1,298 @@
+package club.catmc.core.shared.expiry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timing wheel for expiring grants, punishments and similar timed state.
+ * Scheduling and cancelling are O(1) and never read the clock; a single daemon thread
+ * advances the wheel one slot per tick and runs each task once its deadline has passed.
+ * Tasks run on the wheel thread and should hand off any heavy work.
+ *
+ * Deadlines are rounded up to the next tick, so a task fires at most one tick late.
+ */
+public final class ExpiryWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiryWheel.class);
+
+    /** Default tick duration in milliseconds */
+    public static final long DEFAULT_TICK_MILLIS = 100L;
+    /** Default number of slots (one revolution is about 51 seconds with the default tick) */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final String name;
+    private final long tickMillis;
+    private final int mask;
+    private final Slot[] wheel;
+    private final long startMillis;
+
+    // Timeouts handed over by other threads, placed into slots by the wheel thread
+    private final Queue<Timeout> pendingTimeouts;
+    private final AtomicInteger pendingCount;
+    private final Thread worker;
+
+    private volatile boolean running;
+
+    // Only accessed by the wheel thread
+    private long tick;
+
+    /**
+     * Creates and starts a wheel with the default tick and size
+     *
+     * @param name Name of the wheel thread
+     */
+    public ExpiryWheel(String name) {
+        this(name, DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates and starts a wheel
+     *
+     * @param name       Name of the wheel thread
+     * @param tickMillis Duration of one tick in milliseconds
+     * @param wheelSize  Number of slots, rounded up to a power of two
+     */
+    public ExpiryWheel(String name, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 20)) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 2^20");
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+
+        this.name = name;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.wheel = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Slot();
+        }
+        this.pendingTimeouts = new ConcurrentLinkedQueue<>();
+        this.pendingCount = new AtomicInteger();
+        this.startMillis = System.currentTimeMillis();
+        this.running = true;
+
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules a task for a local date-time, e.g. a grant's or punishment's expiresAt
+     *
+     * @param expiresAt When the task should run
+     * @param task      The task
+     * @return Handle to cancel the task
+     */
+    public Timeout schedule(LocalDateTime expiresAt, Runnable task) {
+        return schedule(expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), task);
+    }
+
+    /**
+     * Schedules a task for an absolute time. Deadlines in the past fire on the next tick.
+     *
+     * @param deadlineMillis When the task should run, in epoch milliseconds
+     * @param task           The task
+     * @return Handle to cancel the task
+     */
+    public Timeout schedule(long deadlineMillis, Runnable task) {
+        Timeout timeout = new Timeout(this, deadlineMillis, task);
+        if (!running) {
+            timeout.state = Timeout.CANCELLED;
+            return timeout;
+        }
+        pendingTimeouts.add(timeout);
+        pendingCount.incrementAndGet();
+        return timeout;
+    }
+
+    /**
+     * Gets the number of scheduled tasks that have not fired or been cancelled yet
+     *
+     * @return Number of pending tasks
+     */
+    public int size() {
+        return pendingCount.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Stops the wheel thread; tasks that have not fired are discarded
+     */
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = startMillis + (tick + 1) * tickMillis;
+            long sleep = deadline - System.currentTimeMillis();
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        break;
+                    }
+                    continue;
+                }
+            }
+
+            transferPending();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+        pendingTimeouts.clear();
+    }
+
+    /**
+     * Places newly scheduled timeouts into their slots
+     */
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state != Timeout.PENDING) {
+                continue;
+            }
+            // Ticks are counted from the wheel's start; round up so a task never fires early
+            long target = Math.floorDiv(timeout.deadlineMillis - startMillis + tickMillis - 1, tickMillis) - 1;
+            long fireTick = Math.max(target, tick);
+            timeout.remainingRounds = (fireTick - tick) / wheel.length;
+            wheel[(int) (fireTick & mask)].add(timeout);
+        }
+    }
+
+    private void fire(Timeout timeout) {
+        pendingCount.decrementAndGet();
+        try {
+            timeout.task.run();
+        } catch (Throwable t) {
+            log.error("[ExpiryWheel] Task on " + name + " failed: " + t.getMessage(), t);
+        }
+    }
+
+    /**
+     * Doubly linked list of timeouts in one slot; only touched by the wheel thread
+     */
+    private final class Slot {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = timeout.next = null;
+        }
+
+        private void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.state != Timeout.PENDING) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.markFired()) {
+                        fire(timeout);
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * Handle to a scheduled task
+     */
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int FIRED = 2;
+
+        private final ExpiryWheel wheel;
+        private final long deadlineMillis;
+        private final Runnable task;
+        private volatile int state;
+
+        // Only accessed by the wheel thread
+        private long remainingRounds;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(ExpiryWheel wheel, long deadlineMillis, Runnable task) {
+            this.wheel = wheel;
+            this.deadlineMillis = deadlineMillis;
+            this.task = task;
+        }
+
+        /**
+         * Cancels the task; the wheel drops it the next time it passes its slot
+         *
+         * @return true if the task had not fired or been cancelled yet
+         */
+        public boolean cancel() {
+            synchronized (this) {
+                if (state != PENDING) {
+                    return false;
+                }
+                state = CANCELLED;
+            }
+            wheel.pendingCount.decrementAndGet();
+            return true;
+        }
+
+        private synchronized boolean markFired() {
+            if (state != PENDING) {
+                return false;
+            }
+            state = FIRED;
+            return true;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == FIRED;
+        }
+    }
+}
@@ -159,7 +159,8 @@ public class Grant {
     }
 
     /**
-     * Checks if this grant has expired
+     * Checks if this grant has expired.
+     * Reads the clock; online players' ranks are re-resolved by the expiry wheel instead.
      *
      * @return true if the grant has expired
      */
@@ -171,7 +172,8 @@ public class Grant {
     }
 
     /**
-     * Checks if this grant is currently valid (active and not expired)
+     * Checks if this grant is currently valid (active and not expired).
+     * Reads the clock; online players' ranks are re-resolved by the expiry wheel instead.
      *
      * @return true if the grant is valid
      */
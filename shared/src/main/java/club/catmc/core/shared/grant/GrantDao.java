@@ -86,7 +86,23 @@ public class GrantDao {
      */
     public CompletableFuture<List<Grant>> findActiveByPlayer(UUID playerUuid) {
         Type listType = new TypeToken<List<GrantDto>>() {}.getType();
-        return apiClient.get("/grants/player/" + playerUuid.toString() + "/active", listType)
+        return mapGrants(apiClient.get("/grants/player/" + playerUuid.toString() + "/active", listType));
+    }
+
+    /**
+     * Fetches a player's active grants after they were reported as changed, without joining
+     * a fetch that started before
+     *
+     * @param playerUuid The player's UUID
+     * @return CompletableFuture containing the list of active grants
+     */
+    public CompletableFuture<List<Grant>> refetchActiveByPlayer(UUID playerUuid) {
+        Type listType = new TypeToken<List<GrantDto>>() {}.getType();
+        return mapGrants(apiClient.getFresh("/grants/player/" + playerUuid.toString() + "/active", listType));
+    }
+
+    private CompletableFuture<List<Grant>> mapGrants(CompletableFuture<Object> request) {
+        return request
                 .thenApply(dtos -> {
                     List<Grant> grants = new ArrayList<>();
                     @SuppressWarnings("unchecked")
@@ -126,17 +142,10 @@ public class GrantDao {
      * @return CompletableFuture containing List<Grant>
      */
     public CompletableFuture<List<Grant>> findByRank(String rankId) {
-        Type listType = new TypeToken<List<GrantDto>>() {}.getType();
-        return apiClient.get("/grants/rank/" + rankId, listType)
-                .thenApply(dtos -> {
-                    List<Grant> grants = new ArrayList<>();
-                    @SuppressWarnings("unchecked")
-                    List<GrantDto> dtoList = (List<GrantDto>) dtos;
-                    for (GrantDto dto : dtoList) {
-                        grants.add(mapDtoToGrant(dto));
-                    }
-                    return grants;
-                });
+        // Streamed element by element, so the DTO list is never materialized
+        List<Grant> grants = new ArrayList<>();
+        return apiClient.getEach("/grants/rank/" + rankId, GrantDto.class, dto -> grants.add(mapDtoToGrant(dto)))
+                .thenApply(count -> grants);
     }
 
     /**
@@ -209,7 +218,7 @@ public class GrantDao {
     /**
      * Maps a GrantDto to a Grant domain object
      */
-    private Grant mapDtoToGrant(GrantDto dto) {
+    public Grant mapDtoToGrant(GrantDto dto) {
         Grant grant = new Grant(
                 dto.getId() != null ? dto.getId() : 0,
                 UUID.fromString(dto.getPlayerUuid()),
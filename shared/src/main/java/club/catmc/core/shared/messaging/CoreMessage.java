@@ -0,0 +1,21 @@
+package club.catmc.core.shared.messaging;
+
+/**
+ * A typed message on the core:channel plugin messaging channel
+ */
+public interface CoreMessage {
+
+    /**
+     * Gets the type of this message, which determines its numeric ID on the wire
+     *
+     * @return The message type
+     */
+    MessageType getType();
+
+    /**
+     * Writes the message payload, without the frame header
+     *
+     * @param out The writer to write to
+     */
+    void write(MessageWriter out);
+}
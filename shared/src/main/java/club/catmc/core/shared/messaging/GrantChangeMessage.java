@@ -0,0 +1,33 @@
+package club.catmc.core.shared.messaging;
+
+import java.util.UUID;
+
+/**
+ * Tells the receiving side to reload a player's grants
+ */
+public class GrantChangeMessage implements CoreMessage {
+
+    private final UUID playerUuid;
+
+    public GrantChangeMessage(UUID playerUuid) {
+        this.playerUuid = playerUuid;
+    }
+
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    @Override
+    public MessageType getType() {
+        return MessageType.GRANT_CHANGE;
+    }
+
+    @Override
+    public void write(MessageWriter out) {
+        out.writeUuid(playerUuid);
+    }
+
+    static GrantChangeMessage read(MessageReader in) throws MessageCodecException {
+        return new GrantChangeMessage(in.readUuid());
+    }
+}
@@ -0,0 +1,80 @@
+package club.catmc.core.shared.messaging;
+
+/**
+ * Encodes and decodes core:channel messages.
+ * <p>
+ * Frame layout: a protocol version byte, the message type ID as a varint, then the
+ * type's payload. UUIDs are 16 raw bytes, strings a varint length and UTF-8 bytes.
+ * Each thread reuses one encode buffer, so encoding allocates only the final byte array.
+ */
+public final class MessageCodec {
+
+    /**
+     * Current protocol version, bumped on incompatible payload changes
+     */
+    public static final int VERSION = 1;
+
+    // Buffers that grew past this are dropped after use instead of being kept per thread
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<MessageWriter> WRITERS = ThreadLocal.withInitial(MessageWriter::new);
+
+    private MessageCodec() {
+    }
+
+    /**
+     * Encodes a message into a complete frame
+     *
+     * @param message The message
+     * @return The frame bytes
+     */
+    public static byte[] encode(CoreMessage message) {
+        MessageWriter writer = WRITERS.get();
+        writer.reset();
+        writer.writeByte(VERSION);
+        writer.writeVarInt(message.getType().getId());
+        message.write(writer);
+        byte[] frame = writer.toByteArray();
+        if (writer.capacity() > MAX_RETAINED_CAPACITY) {
+            WRITERS.remove();
+        }
+        return frame;
+    }
+
+    /**
+     * Encodes a message into a PluginMessage on the core channel
+     *
+     * @param message The message
+     * @return The plugin message
+     */
+    public static PluginMessage toPluginMessage(CoreMessage message) {
+        return new PluginMessage(PluginMessage.CHANNEL, encode(message));
+    }
+
+    /**
+     * Decodes a frame
+     *
+     * @param data The frame bytes
+     * @return The decoded message
+     * @throws MessageCodecException if the version or type is unknown, or the frame is malformed
+     */
+    public static CoreMessage decode(byte[] data) throws MessageCodecException {
+        MessageReader in = new MessageReader(data);
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new MessageCodecException("Unsupported protocol version " + version + " (expected " + VERSION + ")");
+        }
+
+        int id = in.readVarInt();
+        MessageType type = MessageType.byId(id);
+        if (type == null) {
+            throw new MessageCodecException("Unknown message type " + id);
+        }
+
+        CoreMessage message = type.read(in);
+        if (in.remaining() > 0) {
+            throw new MessageCodecException(in.remaining() + " trailing bytes after " + type);
+        }
+        return message;
+    }
+}
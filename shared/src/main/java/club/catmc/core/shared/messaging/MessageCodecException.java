@@ -0,0 +1,19 @@
+package club.catmc.core.shared.messaging;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a core:channel message cannot be decoded
+ */
+public class MessageCodecException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public MessageCodecException(String message) {
+        super(message);
+    }
+
+    public MessageCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
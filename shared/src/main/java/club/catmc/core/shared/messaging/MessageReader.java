@@ -0,0 +1,92 @@
+package club.catmc.core.shared.messaging;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Reads the primitives of the core:channel protocol from a ByteBuffer.
+ * Truncated or malformed input fails with a MessageCodecException.
+ */
+public class MessageReader {
+
+    private final ByteBuffer buffer;
+
+    public MessageReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public MessageReader(byte[] data) {
+        this(ByteBuffer.wrap(data));
+    }
+
+    public int readByte() throws MessageCodecException {
+        require(1);
+        return buffer.get() & 0xFF;
+    }
+
+    public boolean readBoolean() throws MessageCodecException {
+        return readByte() != 0;
+    }
+
+    /**
+     * Reads a varint written by {@link MessageWriter#writeVarInt(int)}
+     */
+    public int readVarInt() throws MessageCodecException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new MessageCodecException("VarInt is longer than 5 bytes");
+    }
+
+    public long readLong() throws MessageCodecException {
+        require(8);
+        return buffer.getLong();
+    }
+
+    public UUID readUuid() throws MessageCodecException {
+        require(16);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    public String readString() throws MessageCodecException {
+        int length = readVarInt();
+        if (length < 0) {
+            throw new MessageCodecException("Negative string length: " + length);
+        }
+        require(length);
+
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the number of unread bytes
+     *
+     * @return Remaining byte count
+     */
+    public int remaining() {
+        return buffer.remaining();
+    }
+
+    private void require(int bytes) throws MessageCodecException {
+        if (buffer.remaining() < bytes) {
+            throw new MessageCodecException("Message truncated: needed " + bytes + " more bytes, "
+                    + buffer.remaining() + " left", new BufferUnderflowException());
+        }
+    }
+}
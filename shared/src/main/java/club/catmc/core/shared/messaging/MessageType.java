@@ -0,0 +1,63 @@
+package club.catmc.core.shared.messaging;
+
+/**
+ * Message types of the core:channel protocol.
+ * IDs are part of the wire format: never reuse or renumber them, only append new ones.
+ */
+public enum MessageType {
+
+    GRANT_CHANGE(1, GrantChangeMessage::read),
+    PRIVATE_MESSAGE(2, PrivateChatMessage::read);
+
+    // Type by ID, for decoding without a search
+    private static final MessageType[] BY_ID;
+
+    static {
+        int maxId = 0;
+        for (MessageType type : values()) {
+            maxId = Math.max(maxId, type.id);
+        }
+        BY_ID = new MessageType[maxId + 1];
+        for (MessageType type : values()) {
+            BY_ID[type.id] = type;
+        }
+    }
+
+    private final int id;
+    private final Decoder decoder;
+
+    MessageType(int id, Decoder decoder) {
+        this.id = id;
+        this.decoder = decoder;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Reads the payload of a message of this type
+     *
+     * @param in The reader positioned after the frame header
+     * @return The decoded message
+     * @throws MessageCodecException if the payload is malformed
+     */
+    public CoreMessage read(MessageReader in) throws MessageCodecException {
+        return decoder.read(in);
+    }
+
+    /**
+     * Gets a message type by its wire ID
+     *
+     * @param id The numeric ID
+     * @return The message type, or null if unknown
+     */
+    public static MessageType byId(int id) {
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        CoreMessage read(MessageReader in) throws MessageCodecException;
+    }
+}
@@ -0,0 +1,163 @@
+package club.catmc.core.shared.messaging;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Writes the primitives of the core:channel protocol into a growable ByteBuffer.
+ * A writer is meant to be reused: {@link #reset()} keeps the buffer, so encoding a
+ * message only allocates the final byte array handed to the platform.
+ */
+public class MessageWriter {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private ByteBuffer buffer;
+
+    public MessageWriter() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public MessageWriter(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(Math.max(16, initialCapacity));
+    }
+
+    /**
+     * Discards everything written so far, keeping the buffer
+     */
+    public void reset() {
+        buffer.clear();
+    }
+
+    public int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Gets the current buffer capacity
+     *
+     * @return Capacity in bytes
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    public void writeByte(int value) {
+        ensure(1);
+        buffer.put((byte) value);
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Writes an int as a varint: 7 bits per byte, low bits first, 1 to 5 bytes
+     *
+     * @param value The value; negative values always take 5 bytes
+     */
+    public void writeVarInt(int value) {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public void writeLong(long value) {
+        ensure(8);
+        buffer.putLong(value);
+    }
+
+    /**
+     * Writes a UUID as its 16 raw bytes
+     */
+    public void writeUuid(UUID uuid) {
+        ensure(16);
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Writes a string as a varint byte length followed by its UTF-8 bytes, encoded straight into the buffer
+     *
+     * @param value The string (may be null, which is written as an empty string)
+     */
+    public void writeString(String value) {
+        if (value == null || value.isEmpty()) {
+            writeVarInt(0);
+            return;
+        }
+
+        int length = utf8Length(value);
+        writeVarInt(length);
+        ensure(length);
+
+        int chars = value.length();
+        for (int i = 0; i < chars; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate, replaced like String.getBytes does
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Copies the written bytes into a new array
+     *
+     * @return The encoded bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static int utf8Length(String value) {
+        int chars = value.length();
+        int length = chars;
+        for (int i = 0; i < chars; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                length += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(value.charAt(i + 1))) {
+                // Two chars become four bytes
+                length += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                length += 2;
+            }
+        }
+        return length;
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+        ByteBuffer grown = ByteBuffer.allocate(capacity);
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+}
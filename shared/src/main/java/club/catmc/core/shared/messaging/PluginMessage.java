@@ -1,14 +1,15 @@
 package club.catmc.core.shared.messaging;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
-import java.io.IOException;
-
 /**
  * Represents a plugin message sent between Bukkit and BungeeCord
  */
 public class PluginMessage {
 
+    /**
+     * The channel used for messages between the proxy and the game servers
+     */
+    public static final String CHANNEL = "core:channel";
+
     private final String channel;
     private final byte[] data;
 
@@ -32,17 +33,12 @@ public class PluginMessage {
     }
 
     /**
-     * Reads the message data as a UTF string
+     * Decodes the message data as a core:channel frame
      *
-     * @return The string content, or null if error
+     * @return The decoded message
+     * @throws MessageCodecException if the data is not a valid frame
      */
-    public String readString() {
-        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
-            return in.readUTF();
-        } catch (IOException e) {
-            System.err.println("[Messaging] Failed to read string: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+    public CoreMessage decode() throws MessageCodecException {
+        return MessageCodec.decode(data);
     }
 }
@@ -0,0 +1,63 @@
+package club.catmc.core.shared.messaging;
+
+import java.util.UUID;
+
+/**
+ * A private message delivered by the proxy to the recipient's server.
+ * The recipient is the player whose connection carries the plugin message.
+ */
+public class PrivateChatMessage implements CoreMessage {
+
+    private final UUID senderUuid;
+    private final String senderName;
+    private final String message;
+    private final String formattedMessage;
+
+    /**
+     * Creates a new PrivateChatMessage
+     *
+     * @param senderUuid       The UUID of the sender
+     * @param senderName       The display name of the sender
+     * @param message          The raw message content
+     * @param formattedMessage The message as shown to the recipient, with legacy section colors
+     */
+    public PrivateChatMessage(UUID senderUuid, String senderName, String message, String formattedMessage) {
+        this.senderUuid = senderUuid;
+        this.senderName = senderName;
+        this.message = message;
+        this.formattedMessage = formattedMessage;
+    }
+
+    public UUID getSenderUuid() {
+        return senderUuid;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getFormattedMessage() {
+        return formattedMessage;
+    }
+
+    @Override
+    public MessageType getType() {
+        return MessageType.PRIVATE_MESSAGE;
+    }
+
+    @Override
+    public void write(MessageWriter out) {
+        out.writeUuid(senderUuid);
+        out.writeString(senderName);
+        out.writeString(message);
+        out.writeString(formattedMessage);
+    }
+
+    static PrivateChatMessage read(MessageReader in) throws MessageCodecException {
+        return new PrivateChatMessage(in.readUuid(), in.readString(), in.readString(), in.readString());
+    }
+}
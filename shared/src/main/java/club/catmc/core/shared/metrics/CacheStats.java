@@ -0,0 +1,44 @@
+package club.catmc.core.shared.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit and miss counters of a cache
+ */
+public class CacheStats {
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public CacheStats() {
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the fraction of lookups that were hits
+     *
+     * @return The hit ratio between 0 and 1, or 0 if there were no lookups
+     */
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : hitCount / (double) total;
+    }
+}
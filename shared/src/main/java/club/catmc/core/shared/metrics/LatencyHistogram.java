@@ -0,0 +1,127 @@
+package club.catmc.core.shared.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the style of HdrHistogram.
+ * Values are recorded in microseconds: exact below 128µs, and within 1/64 (about 1.6%)
+ * of the true value above that, up to about 19 hours. Recording is a few atomic adds,
+ * so it is safe to call on hot paths from any thread.
+ */
+public class LatencyHistogram {
+
+    // Values below 2^SUB_BUCKET_BITS are stored exactly; above, each power of two gets HALF_SUB_BUCKETS buckets
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int MAX_SHIFT = 30;
+    private static final long MAX_VALUE = ((long) SUB_BUCKETS << MAX_SHIFT) - 1;
+    private static final int BUCKETS = SUB_BUCKETS + MAX_SHIFT * HALF_SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder count;
+    private final LongAdder sumMicros;
+    private final AtomicLong maxMicros;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.count = new LongAdder();
+        this.sumMicros = new LongAdder();
+        this.maxMicros = new AtomicLong();
+    }
+
+    /**
+     * Records a latency
+     *
+     * @param nanos The latency in nanoseconds, e.g. the difference of two System.nanoTime() calls
+     */
+    public void record(long nanos) {
+        long micros = Math.min(MAX_VALUE, Math.max(0, nanos / 1000));
+        counts.incrementAndGet(bucketOf(micros));
+        count.increment();
+        sumMicros.add(micros);
+        if (micros > maxMicros.get()) {
+            maxMicros.accumulateAndGet(micros, Math::max);
+        }
+    }
+
+    /**
+     * Records the time elapsed since a start timestamp
+     *
+     * @param startNanos The System.nanoTime() value taken at the start
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the sum of all recorded values
+     *
+     * @return The sum in microseconds
+     */
+    public long getSumMicros() {
+        return sumMicros.sum();
+    }
+
+    /**
+     * Gets the largest recorded value
+     *
+     * @return The maximum in microseconds
+     */
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Gets the value at a percentile
+     *
+     * @param percentile The percentile between 0 and 100
+     * @return The highest value equivalent to the bucket containing the percentile, in microseconds,
+     * or 0 if nothing has been recorded
+     */
+    public long getPercentileMicros(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, percentile) / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        // Shift that brings the value into [HALF_SUB_BUCKETS, SUB_BUCKETS)
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) (micros >> shift) - HALF_SUB_BUCKETS;
+    }
+
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long subBucket = (bucket - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
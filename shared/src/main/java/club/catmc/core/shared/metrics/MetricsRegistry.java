@@ -0,0 +1,326 @@
+package club.catmc.core.shared.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Holds the plugin's metrics: latency histograms, counters, rates, gauges and cache statistics.
+ * Metrics are identified by a name and label pairs and created on first use, so callers on hot
+ * paths should look them up once and keep the returned instance.
+ * The registry can be rendered as a short human-readable summary or in the Prometheus text
+ * exposition format, e.g. for the node_exporter textfile collector.
+ */
+public class MetricsRegistry {
+
+    private final Map<String, Entry<LatencyHistogram>> histograms;
+    private final Map<String, Entry<LongAdder>> counters;
+    private final Map<String, Entry<RateMeter>> rates;
+    private final Map<String, Entry<LongSupplier>> gauges;
+    private final Map<String, Entry<AtomicLong>> gaugeValues;
+    private final Map<String, Entry<CacheStats>> caches;
+
+    public MetricsRegistry() {
+        this.histograms = new ConcurrentHashMap<>();
+        this.counters = new ConcurrentHashMap<>();
+        this.rates = new ConcurrentHashMap<>();
+        this.gauges = new ConcurrentHashMap<>();
+        this.gaugeValues = new ConcurrentHashMap<>();
+        this.caches = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets or creates a latency histogram
+     *
+     * @param name   The metric name, e.g. "core_api_request_seconds"
+     * @param labels Label names and values, alternating
+     * @return The histogram
+     */
+    public LatencyHistogram histogram(String name, String... labels) {
+        return register(histograms, name, labels, LatencyHistogram::new).metric;
+    }
+
+    /**
+     * Gets or creates a counter
+     *
+     * @param name   The metric name, e.g. "core_api_errors_total"
+     * @param labels Label names and values, alternating
+     * @return The counter
+     */
+    public LongAdder counter(String name, String... labels) {
+        return register(counters, name, labels, LongAdder::new).metric;
+    }
+
+    /**
+     * Gets or creates a rate meter
+     *
+     * @param name   The metric name, e.g. "core_ws_messages"
+     * @param labels Label names and values, alternating
+     * @return The rate meter
+     */
+    public RateMeter rate(String name, String... labels) {
+        return register(rates, name, labels, RateMeter::new).metric;
+    }
+
+    /**
+     * Gets or creates a gauge whose value is set by the caller
+     *
+     * @param name   The metric name
+     * @param labels Label names and values, alternating
+     * @return The gauge value
+     */
+    public AtomicLong gaugeValue(String name, String... labels) {
+        return register(gaugeValues, name, labels, AtomicLong::new).metric;
+    }
+
+    /**
+     * Registers a gauge computed on demand, replacing any previous gauge with the same name and labels
+     *
+     * @param name     The metric name
+     * @param supplier Supplies the current value
+     * @param labels   Label names and values, alternating
+     */
+    public void gauge(String name, LongSupplier supplier, String... labels) {
+        String key = key(name, labels);
+        gauges.put(key, new Entry<>(name, labels(labels), supplier));
+    }
+
+    /**
+     * Registers the statistics of a cache, replacing any previous ones with the same name
+     *
+     * @param name  The cache name, e.g. "chat_names"
+     * @param stats The cache's statistics
+     */
+    public void registerCache(String name, CacheStats stats) {
+        String key = key("core_cache", "cache", name);
+        caches.put(key, new Entry<>("core_cache", labels(new String[]{"cache", name}), stats));
+    }
+
+    private static <T> Entry<T> register(Map<String, Entry<T>> metrics, String name, String[] labels, Supplier<T> factory) {
+        String key = key(name, labels);
+        Entry<T> entry = metrics.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        return metrics.computeIfAbsent(key, k -> new Entry<>(name, labels(labels), factory.get()));
+    }
+
+    /**
+     * Renders every metric in the Prometheus text exposition format.
+     * Histograms are written as summaries with p50, p90, p99 and p99.9 quantiles in seconds,
+     * plus a separate _max gauge.
+     *
+     * @return The text dump
+     */
+    public String toText() {
+        StringBuilder out = new StringBuilder(4096);
+
+        // Each family's samples must be contiguous, so the _max gauges follow their summary family
+        List<Entry<LatencyHistogram>> sortedHistograms = sorted(histograms);
+        for (int start = 0; start < sortedHistograms.size(); ) {
+            String family = sortedHistograms.get(start).name;
+            int end = start;
+            while (end < sortedHistograms.size() && sortedHistograms.get(end).name.equals(family)) {
+                end++;
+            }
+            List<Entry<LatencyHistogram>> familyEntries = sortedHistograms.subList(start, end);
+
+            out.append("# TYPE ").append(family).append(" summary\n");
+            for (Entry<LatencyHistogram> entry : familyEntries) {
+                LatencyHistogram histogram = entry.metric;
+                for (double quantile : new double[]{0.5, 0.9, 0.99, 0.999}) {
+                    sample(out, family, join(entry.labels, "quantile=\"" + quantile + "\""),
+                            seconds(histogram.getPercentileMicros(quantile * 100)));
+                }
+                sample(out, family + "_sum", entry.labels, seconds(histogram.getSumMicros()));
+                sample(out, family + "_count", entry.labels, Long.toString(histogram.getCount()));
+            }
+            out.append("# TYPE ").append(family).append("_max gauge\n");
+            for (Entry<LatencyHistogram> entry : familyEntries) {
+                sample(out, family + "_max", entry.labels, seconds(entry.metric.getMaxMicros()));
+            }
+            start = end;
+        }
+
+        String family = null;
+        for (Entry<LongAdder> entry : sorted(counters)) {
+            if (!entry.name.equals(family)) {
+                family = entry.name;
+                out.append("# TYPE ").append(family).append(" counter\n");
+            }
+            sample(out, entry.name, entry.labels, Long.toString(entry.metric.sum()));
+        }
+
+        family = null;
+        for (Entry<RateMeter> entry : sorted(rates)) {
+            if (!entry.name.equals(family)) {
+                family = entry.name;
+                out.append("# TYPE ").append(family).append("_total counter\n");
+            }
+            sample(out, entry.name + "_total", entry.labels, Long.toString(entry.metric.getCount()));
+        }
+
+        family = null;
+        for (Entry<LongSupplier> entry : sortedGauges()) {
+            if (!entry.name.equals(family)) {
+                family = entry.name;
+                out.append("# TYPE ").append(family).append(" gauge\n");
+            }
+            sample(out, entry.name, entry.labels, Long.toString(entry.metric.getAsLong()));
+        }
+
+        if (!caches.isEmpty()) {
+            List<Entry<CacheStats>> sortedCaches = sorted(caches);
+            out.append("# TYPE core_cache_hits_total counter\n");
+            for (Entry<CacheStats> entry : sortedCaches) {
+                sample(out, "core_cache_hits_total", entry.labels, Long.toString(entry.metric.getHits()));
+            }
+            out.append("# TYPE core_cache_misses_total counter\n");
+            for (Entry<CacheStats> entry : sortedCaches) {
+                sample(out, "core_cache_misses_total", entry.labels, Long.toString(entry.metric.getMisses()));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the text dump to a file, replacing it atomically so scrapers never read a partial file
+     *
+     * @param file The target file, e.g. metrics.prom in the plugin's data folder
+     */
+    public void writeTextFile(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.writeString(temp, toText(), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write metrics to " + file, e);
+        }
+    }
+
+    /**
+     * Renders a short summary with one line per metric, for display in chat or the console
+     *
+     * @return The summary lines
+     */
+    public List<String> summary() {
+        List<String> lines = new ArrayList<>();
+        for (Entry<LatencyHistogram> entry : sorted(histograms)) {
+            LatencyHistogram histogram = entry.metric;
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            lines.add(String.format(Locale.ROOT, "%s count=%d p50=%s p99=%s max=%s", entry.describe(),
+                    histogram.getCount(), millis(histogram.getPercentileMicros(50)),
+                    millis(histogram.getPercentileMicros(99)), millis(histogram.getMaxMicros())));
+        }
+        for (Entry<LongAdder> entry : sorted(counters)) {
+            lines.add(entry.describe() + " " + entry.metric.sum());
+        }
+        for (Entry<RateMeter> entry : sorted(rates)) {
+            lines.add(String.format(Locale.ROOT, "%s count=%d rate=%.2f/s", entry.describe(),
+                    entry.metric.getCount(), entry.metric.getRatePerSecond()));
+        }
+        for (Entry<LongSupplier> entry : sortedGauges()) {
+            lines.add(entry.describe() + " " + entry.metric.getAsLong());
+        }
+        for (Entry<CacheStats> entry : sorted(caches)) {
+            CacheStats stats = entry.metric;
+            lines.add(String.format(Locale.ROOT, "%s hits=%.1f%% (%d/%d)", entry.describe(),
+                    stats.getHitRatio() * 100, stats.getHits(), stats.getHits() + stats.getMisses()));
+        }
+        return lines;
+    }
+
+    private static <T> List<Entry<T>> sorted(Map<String, Entry<T>> metrics) {
+        return new ArrayList<>(new TreeMap<>(metrics).values());
+    }
+
+    /**
+     * Gets computed and settable gauges together, sorted by key
+     */
+    private List<Entry<LongSupplier>> sortedGauges() {
+        Map<String, Entry<LongSupplier>> all = new TreeMap<>(gauges);
+        gaugeValues.forEach((key, entry) -> all.put(key, new Entry<>(entry.name, entry.labels, entry.metric::get)));
+        return new ArrayList<>(all.values());
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, String value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static String join(String labels, String label) {
+        return labels.isEmpty() ? label : labels + "," + label;
+    }
+
+    private static String seconds(long micros) {
+        return Double.toString(micros / 1_000_000.0);
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2fms", micros / 1000.0);
+    }
+
+    private static String key(String name, String... labels) {
+        if (labels.length == 0) {
+            return name;
+        }
+        return name + "{" + labels(labels) + "}";
+    }
+
+    private static String labels(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+        }
+        return out.toString();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class Entry<T> {
+        private final String name;
+        private final String labels;
+        private final T metric;
+
+        private Entry(String name, String labels, T metric) {
+            this.name = name;
+            this.labels = labels;
+            this.metric = metric;
+        }
+
+        private String describe() {
+            return labels.isEmpty() ? name : name + "{" + labels + "}";
+        }
+    }
+}
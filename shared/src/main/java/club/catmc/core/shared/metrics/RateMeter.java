@@ -0,0 +1,65 @@
+package club.catmc.core.shared.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts events and their rate over the last minute.
+ * Events are counted in one-second slots of a 60-slot ring; a slot is reset the first
+ * time it is used in a new second, so the rate is approximate around slot boundaries.
+ */
+public class RateMeter {
+
+    private static final int WINDOW_SECONDS = 60;
+
+    private final LongAdder total;
+    private final AtomicLongArray slotCounts;
+    private final AtomicLongArray slotSeconds;
+
+    public RateMeter() {
+        this.total = new LongAdder();
+        this.slotCounts = new AtomicLongArray(WINDOW_SECONDS);
+        this.slotSeconds = new AtomicLongArray(WINDOW_SECONDS);
+    }
+
+    /**
+     * Records one event
+     */
+    public void mark() {
+        total.increment();
+
+        long second = System.currentTimeMillis() / 1000;
+        int slot = (int) (second % WINDOW_SECONDS);
+        long slotSecond = slotSeconds.get(slot);
+        if (slotSecond != second && slotSeconds.compareAndSet(slot, slotSecond, second)) {
+            slotCounts.set(slot, 0);
+        }
+        slotCounts.incrementAndGet(slot);
+    }
+
+    /**
+     * Gets the number of events since creation
+     *
+     * @return Total event count
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Gets the average rate over the last minute, excluding the current partial second
+     *
+     * @return Events per second
+     */
+    public double getRatePerSecond() {
+        long now = System.currentTimeMillis() / 1000;
+        long events = 0;
+        for (int slot = 0; slot < WINDOW_SECONDS; slot++) {
+            long age = now - slotSeconds.get(slot);
+            if (age >= 1 && age <= WINDOW_SECONDS) {
+                events += slotCounts.get(slot);
+            }
+        }
+        return events / (double) WINDOW_SECONDS;
+    }
+}
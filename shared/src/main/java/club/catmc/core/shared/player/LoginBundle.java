@@ -0,0 +1,49 @@
+package club.catmc.core.shared.player;
+
+import club.catmc.core.shared.grant.Grant;
+import club.catmc.core.shared.punishment.Punishment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Everything needed to bring a player online: their stored profile (if any),
+ * active grants and active punishments
+ */
+public class LoginBundle {
+
+    private final Player player;
+    private final List<Grant> grants;
+    private final List<Punishment> punishments;
+
+    /**
+     * Creates a new LoginBundle
+     *
+     * @param player      The stored player, or null if the player is new
+     * @param grants      The player's active grants
+     * @param punishments The player's active punishments
+     */
+    public LoginBundle(Player player, List<Grant> grants, List<Punishment> punishments) {
+        this.player = player;
+        this.grants = grants != null ? grants : new ArrayList<>();
+        this.punishments = punishments != null ? punishments : new ArrayList<>();
+    }
+
+    /**
+     * Gets the stored player profile
+     *
+     * @return The player, or empty if this is their first login
+     */
+    public Optional<Player> getPlayer() {
+        return Optional.ofNullable(player);
+    }
+
+    public List<Grant> getGrants() {
+        return grants;
+    }
+
+    public List<Punishment> getPunishments() {
+        return punishments;
+    }
+}
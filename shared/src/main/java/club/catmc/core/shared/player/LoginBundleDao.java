@@ -0,0 +1,126 @@
+package club.catmc.core.shared.player;
+
+import club.catmc.core.shared.api.ApiClient;
+import club.catmc.core.shared.dto.GrantDto;
+import club.catmc.core.shared.dto.LoginBundleDto;
+import club.catmc.core.shared.dto.PunishmentDto;
+import club.catmc.core.shared.grant.Grant;
+import club.catmc.core.shared.grant.GrantDao;
+import club.catmc.core.shared.punishment.Punishment;
+import club.catmc.core.shared.punishment.PunishmentDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Data Access Object for the composite login bundle.
+ * Fetches a player's profile, active grants and active punishments with a single
+ * request to {@code /players/{uuid}/login-bundle}. If the API does not expose that
+ * endpoint, the three lookups are fanned out in parallel instead.
+ */
+public class LoginBundleDao {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginBundleDao.class);
+    private final ApiClient apiClient;
+    private final PlayerDao playerDao;
+    private final GrantDao grantDao;
+    private final PunishmentDao punishmentDao;
+
+    // Cleared the first time the API reports the bundle endpoint as missing
+    private volatile boolean bundleEndpointAvailable = true;
+
+    public LoginBundleDao(ApiClient apiClient, PlayerDao playerDao, GrantDao grantDao, PunishmentDao punishmentDao) {
+        this.apiClient = apiClient;
+        this.playerDao = playerDao;
+        this.grantDao = grantDao;
+        this.punishmentDao = punishmentDao;
+    }
+
+    /**
+     * Loads the login bundle for a player
+     *
+     * @param uuid The player's UUID
+     * @return CompletableFuture containing the LoginBundle
+     */
+    public CompletableFuture<LoginBundle> load(UUID uuid) {
+        if (!bundleEndpointAvailable) {
+            return loadParallel(uuid);
+        }
+
+        return apiClient.get("/players/" + uuid.toString() + "/login-bundle", LoginBundleDto.class)
+                .thenApply(this::mapDtoToBundle)
+                .handle((bundle, e) -> {
+                    if (e == null) {
+                        return CompletableFuture.completedFuture(bundle);
+                    }
+                    if (isEndpointMissing(e)) {
+                        log.warn("[LoginBundleDao] Login bundle endpoint not available, falling back to parallel requests");
+                        bundleEndpointAvailable = false;
+                        return loadParallel(uuid);
+                    }
+                    throw new CompletionException("Failed to load login bundle", e);
+                })
+                .thenCompose(future -> future);
+    }
+
+    /**
+     * Loads the bundle by issuing the player, grant and punishment lookups concurrently
+     *
+     * @param uuid The player's UUID
+     * @return CompletableFuture containing the LoginBundle
+     */
+    public CompletableFuture<LoginBundle> loadParallel(UUID uuid) {
+        CompletableFuture<Optional<Player>> playerFuture = playerDao.findByUuid(uuid);
+        CompletableFuture<List<Grant>> grantsFuture = grantDao.findActiveByPlayer(uuid);
+        CompletableFuture<List<Punishment>> punishmentsFuture = punishmentDao.findActiveByPlayerUuid(uuid);
+
+        return CompletableFuture.allOf(playerFuture, grantsFuture, punishmentsFuture)
+                .thenApply(v -> new LoginBundle(
+                        playerFuture.join().orElse(null),
+                        grantsFuture.join(),
+                        punishmentsFuture.join()
+                ));
+    }
+
+    /**
+     * Maps a LoginBundleDto to a LoginBundle
+     */
+    private LoginBundle mapDtoToBundle(LoginBundleDto dto) {
+        Player player = dto.getPlayer() != null ? playerDao.mapDtoToPlayer(dto.getPlayer()) : null;
+
+        List<Grant> grants = new ArrayList<>();
+        if (dto.getGrants() != null) {
+            for (GrantDto grantDto : dto.getGrants()) {
+                grants.add(grantDao.mapDtoToGrant(grantDto));
+            }
+        }
+
+        List<Punishment> punishments = new ArrayList<>();
+        if (dto.getPunishments() != null) {
+            for (PunishmentDto punishmentDto : dto.getPunishments()) {
+                punishments.add(punishmentDao.mapDtoToPunishment(punishmentDto));
+            }
+        }
+
+        return new LoginBundle(player, grants, punishments);
+    }
+
+    /**
+     * Checks whether a failure means the API does not implement the bundle endpoint.
+     * Unknown players are reported with a null player, not a 404.
+     */
+    private boolean isEndpointMissing(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof ApiClient.ApiClientException) {
+            int status = ((ApiClient.ApiClientException) cause).getStatusCode();
+            return status == 404 || status == 405 || status == 501;
+        }
+        return false;
+    }
+}
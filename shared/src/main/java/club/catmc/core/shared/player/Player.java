@@ -1,11 +1,19 @@
 package club.catmc.core.shared.player;
 
 import club.catmc.core.shared.grant.Grant;
+import club.catmc.core.shared.rank.PermissionIndex;
 import club.catmc.core.shared.rank.Rank;
+import club.catmc.core.shared.rank.RankRegistry;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -16,14 +24,19 @@ public class Player {
 
     private UUID uuid;
     private String username;
-    private Rank rank; // This will be the active rank from grants
     private List<Grant> grants; // List of all grants
     private long playtimeTicks;
     private LocalDateTime firstLogin;
     private LocalDateTime lastLogin;
-    private boolean online;
+    private volatile boolean online;
     private List<String> additionalPermissions;
 
+    // Compiled form of additionalPermissions, rebuilt lazily after setAdditionalPermissions
+    private volatile PermissionIndex additionalPermissionIndex;
+
+    // Result of the last resolveActiveRank call, published as a whole so readers never mix two resolves
+    private volatile ResolvedRank resolvedRank = ResolvedRank.NONE;
+
     /**
      * Creates a new Player with essential fields
      *
@@ -47,7 +60,7 @@ public class Player {
                   List<String> additionalPermissions) {
         this.uuid = uuid;
         this.username = username;
-        this.rank = rank;
+        this.resolvedRank = ResolvedRank.of(rank);
         this.grants = grants != null ? grants : new ArrayList<>();
         this.playtimeTicks = playtimeTicks;
         this.firstLogin = firstLogin;
@@ -74,11 +87,17 @@ public class Player {
     }
 
     public Rank getRank() {
-        return rank;
+        return resolvedRank.rank;
     }
 
+    /**
+     * Sets the active rank directly, replacing the result of the last resolveActiveRank call
+     * with one that holds no granted ranks and no expiry
+     *
+     * @param rank The rank (may be null)
+     */
     public void setRank(Rank rank) {
-        this.rank = rank;
+        this.resolvedRank = ResolvedRank.of(rank);
     }
 
     public List<Grant> getGrants() {
@@ -127,10 +146,26 @@ public class Player {
 
     public void setAdditionalPermissions(List<String> additionalPermissions) {
         this.additionalPermissions = additionalPermissions != null ? additionalPermissions : new ArrayList<>();
+        this.additionalPermissionIndex = null;
+    }
+
+    /**
+     * Gets the compiled index of this player's additional permissions, compiling it on first use
+     *
+     * @return The permission index
+     */
+    public PermissionIndex getAdditionalPermissionIndex() {
+        PermissionIndex index = additionalPermissionIndex;
+        if (index == null) {
+            index = PermissionIndex.compile(additionalPermissions);
+            additionalPermissionIndex = index;
+        }
+        return index;
     }
 
     /**
-     * Gets all valid (active and not expired) grants for this player
+     * Gets all valid (active and not expired) grants for this player.
+     * Checks every grant against the clock; hot paths read the state stored by resolveActiveRank.
      *
      * @return List of valid grants
      */
@@ -178,37 +213,135 @@ public class Player {
     }
 
     /**
-     * Gets the rank ID of the player's active grant
+     * Gets the ID of the player's active rank, as determined by the last resolveActiveRank call
      *
-     * @return The rank ID, or null if no active grants
+     * @return The rank ID, or null if no rank applies or the rank was never resolved
      */
     public String getActiveRankId() {
-        if (grants == null || grants.isEmpty()) {
-            return null;
+        return resolvedRank.rankId;
+    }
+
+    /**
+     * Gets the IDs of the ranks the player held a valid grant for at the last resolveActiveRank call
+     *
+     * @return Unmodifiable set of rank IDs
+     */
+    public Set<String> getGrantedRankIds() {
+        return resolvedRank.grantedRankIds;
+    }
+
+    /**
+     * Gets the earliest expiry among the grants that were valid at the last resolveActiveRank call.
+     * The active rank must be resolved again once this time has passed.
+     *
+     * @return The earliest expiry, or null if all valid grants are permanent
+     */
+    public LocalDateTime getNextGrantExpiry() {
+        return resolvedRank.nextGrantExpiry;
+    }
+
+    /**
+     * Gets the result of the last resolveActiveRank call as one consistent snapshot
+     *
+     * @return The resolved rank state
+     */
+    public ResolvedRank getResolvedRank() {
+        return resolvedRank;
+    }
+
+    /**
+     * Resolves the player's active rank from their grants and stores it, so chat formatting
+     * and permission checks only read fields afterwards.
+     * The active rank is the highest-priority rank among all valid grants; grants for ranks
+     * missing from the registry are skipped. Without any such grant the default rank applies.
+     * Must be called again whenever the grants, the ranks or the next grant expiry change.
+     *
+     * @param ranks       The current rank registry
+     * @param defaultRank The rank to use when no grant applies (may be null)
+     * @return The resolved rank, or null if none applies
+     */
+    public Rank resolveActiveRank(RankRegistry ranks, Rank defaultRank) {
+        Rank best = null;
+        Set<String> granted = new LinkedHashSet<>();
+        LocalDateTime nextExpiry = null;
+
+        if (grants != null) {
+            LocalDateTime now = LocalDateTime.now();
+            for (Grant grant : grants) {
+                if (!grant.isActive()) {
+                    continue;
+                }
+                LocalDateTime expiresAt = grant.getExpiresAt();
+                if (expiresAt != null) {
+                    if (!now.isBefore(expiresAt)) {
+                        continue;
+                    }
+                    if (nextExpiry == null || expiresAt.isBefore(nextExpiry)) {
+                        nextExpiry = expiresAt;
+                    }
+                }
+                granted.add(grant.getRankId());
+
+                Rank candidate = ranks.get(grant.getRankId());
+                if (candidate != null && (best == null || RankRegistry.PRIORITY_ORDER.compare(candidate, best) < 0)) {
+                    best = candidate;
+                }
+            }
+        }
+        if (best == null) {
+            best = defaultRank;
         }
 
-        return grants.stream()
-                .filter(Grant::isValid)
-                .findFirst()
-                .map(Grant::getRankId)
-                .orElse(null);
+        this.resolvedRank = new ResolvedRank(best, Collections.unmodifiableSet(granted), nextExpiry);
+        return best;
     }
 
     /**
      * Checks if the player has a specific permission
-     * Checks both rank permissions and additional permissions
+     * Additional permissions are checked first and override the rank, so a player
+     * can be granted or denied (with '-') a node regardless of their rank
      *
      * @param permission The permission node to check
      * @return true if the player has the permission
      */
     public boolean hasPermission(String permission) {
-        // Check rank permissions first
-        if (rank != null && rank.hasPermission(permission)) {
-            return true;
+        int result = getAdditionalPermissionIndex().lookup(permission);
+        if (result != PermissionIndex.UNDEFINED) {
+            return result == PermissionIndex.ALLOW;
+        }
+
+        Rank activeRank = resolvedRank.rank;
+        return activeRank != null && activeRank.getPermissionIndex().hasPermission(permission);
+    }
+
+    /**
+     * Resolves the rank's effective permissions and the player's additional permissions
+     * into node values, as applied to platform permission systems.
+     * Nodes are lower-cased; a '-' prefix yields false, and later entries override earlier ones.
+     *
+     * @return Permission node values in application order
+     */
+    public Map<String, Boolean> getPermissionValues() {
+        Map<String, Boolean> values = new LinkedHashMap<>();
+        Rank activeRank = resolvedRank.rank;
+        if (activeRank != null) {
+            putPermissionValues(values, activeRank.getEffectivePermissions());
         }
+        putPermissionValues(values, additionalPermissions);
+        return values;
+    }
 
-        // Check additional permissions
-        return additionalPermissions != null && additionalPermissions.contains(permission);
+    private static void putPermissionValues(Map<String, Boolean> values, List<String> permissions) {
+        if (permissions == null) {
+            return;
+        }
+        for (String permission : permissions) {
+            boolean value = !permission.startsWith("-");
+            String node = (value ? permission : permission.substring(1)).toLowerCase(Locale.ROOT);
+            if (!node.isEmpty()) {
+                values.put(node, value);
+            }
+        }
     }
 
     /**
@@ -217,6 +350,7 @@ public class Player {
      * @return Formatted display name
      */
     public String getDisplayName() {
+        Rank rank = resolvedRank.rank;
         if (rank != null) {
             return rank.formatDisplayName(username);
         }
@@ -230,6 +364,7 @@ public class Player {
      * @return Formatted chat name
      */
     public String getChatName() {
+        Rank rank = resolvedRank.rank;
         if (rank != null) {
             return rank.formatChatName(username);
         }
@@ -289,4 +424,44 @@ public class Player {
                 .filter(grant -> grant.getRankId().equals(rankId))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Immutable result of resolving a player's active rank
+     */
+    public static final class ResolvedRank {
+
+        private static final ResolvedRank NONE = new ResolvedRank(null, Collections.emptySet(), null);
+
+        private final Rank rank;
+        private final String rankId;
+        private final Set<String> grantedRankIds;
+        private final LocalDateTime nextGrantExpiry;
+
+        private ResolvedRank(Rank rank, Set<String> grantedRankIds, LocalDateTime nextGrantExpiry) {
+            this.rank = rank;
+            this.rankId = rank != null ? rank.getId() : null;
+            this.grantedRankIds = grantedRankIds;
+            this.nextGrantExpiry = nextGrantExpiry;
+        }
+
+        private static ResolvedRank of(Rank rank) {
+            return rank != null ? new ResolvedRank(rank, Collections.emptySet(), null) : NONE;
+        }
+
+        public Rank getRank() {
+            return rank;
+        }
+
+        public String getRankId() {
+            return rankId;
+        }
+
+        public Set<String> getGrantedRankIds() {
+            return grantedRankIds;
+        }
+
+        public LocalDateTime getNextGrantExpiry() {
+            return nextGrantExpiry;
+        }
+    }
 }
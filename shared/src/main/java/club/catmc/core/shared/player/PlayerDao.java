@@ -2,18 +2,19 @@ package club.catmc.core.shared.player;
 
 import club.catmc.core.shared.api.ApiClient;
 import club.catmc.core.shared.dto.PlayerDto;
-import com.google.gson.reflect.TypeToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Type;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Data Access Object for Player operations.
@@ -25,6 +26,9 @@ public class PlayerDao {
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
     private final ApiClient apiClient;
 
+    // Cleared the first time the API reports the batch endpoint as missing
+    private volatile boolean batchEndpointAvailable = true;
+
     public PlayerDao(ApiClient apiClient) {
         this.apiClient = apiClient;
     }
@@ -84,17 +88,10 @@ public class PlayerDao {
      * @return CompletableFuture containing List<Player>
      */
     public CompletableFuture<List<Player>> findOnlinePlayers() {
-        Type listType = new TypeToken<List<PlayerDto>>() {}.getType();
-        return apiClient.get("/players/online", listType)
-                .thenApply(dtos -> {
-                    List<Player> players = new ArrayList<>();
-                    @SuppressWarnings("unchecked")
-                    List<PlayerDto> dtoList = (List<PlayerDto>) dtos;
-                    for (PlayerDto dto : dtoList) {
-                        players.add(mapDtoToPlayer(dto));
-                    }
-                    return players;
-                });
+        // Streamed element by element, so the DTO list is never materialized
+        List<Player> players = new ArrayList<>();
+        return apiClient.getEach("/players/online", PlayerDto.class, dto -> players.add(mapDtoToPlayer(dto)))
+                .thenApply(count -> players);
     }
 
     /**
@@ -104,17 +101,10 @@ public class PlayerDao {
      * @return CompletableFuture containing List<Player>
      */
     public CompletableFuture<List<Player>> findTopByPlaytime(int limit) {
-        Type listType = new TypeToken<List<PlayerDto>>() {}.getType();
-        return apiClient.get("/players/top-playtime/" + limit, listType)
-                .thenApply(dtos -> {
-                    List<Player> players = new ArrayList<>();
-                    @SuppressWarnings("unchecked")
-                    List<PlayerDto> dtoList = (List<PlayerDto>) dtos;
-                    for (PlayerDto dto : dtoList) {
-                        players.add(mapDtoToPlayer(dto));
-                    }
-                    return players;
-                });
+        // Streamed element by element, so the DTO list is never materialized
+        List<Player> players = new ArrayList<>();
+        return apiClient.getEach("/players/top-playtime/" + limit, PlayerDto.class, dto -> players.add(mapDtoToPlayer(dto)))
+                .thenApply(count -> players);
     }
 
     /**
@@ -137,6 +127,66 @@ public class PlayerDao {
                 .thenRun(() -> log.info("[PlayerDao] Saved player: " + player.getUsername()));
     }
 
+    /**
+     * Saves a batch of player profiles and playtime increments in one request.
+     * Profiles are sent without a playtime total; playtime is only ever applied
+     * through increments so concurrent writers cannot overwrite each other.
+     * Falls back to one request per player if the batch endpoint is unavailable.
+     *
+     * @param players            The players whose profiles should be upserted
+     * @param playtimeIncrements Ticks to add per player UUID
+     * @return CompletableFuture that completes when saved
+     */
+    public CompletableFuture<Void> saveBatch(Collection<Player> players, Map<UUID, Long> playtimeIncrements) {
+        if (players.isEmpty() && playtimeIncrements.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!batchEndpointAvailable) {
+            return saveIndividually(players, playtimeIncrements);
+        }
+
+        List<PlayerDto> dtos = new ArrayList<>(players.size());
+        for (Player player : players) {
+            dtos.add(mapPlayerToProfileDto(player));
+        }
+        List<PlaytimeEntry> playtime = new ArrayList<>(playtimeIncrements.size());
+        for (Map.Entry<UUID, Long> entry : playtimeIncrements.entrySet()) {
+            playtime.add(new PlaytimeEntry(entry.getKey().toString(), entry.getValue()));
+        }
+
+        return apiClient.post("/players/batch", new PlayerBatchRequest(dtos, playtime), PlayerDto.SuccessResponse.class)
+                .thenRun(() -> log.info("[PlayerDao] Saved batch of " + dtos.size() + " players"))
+                .handle((v, e) -> {
+                    if (e == null) {
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof ApiClient.ApiClientException ex
+                            && (ex.getStatusCode() == 404 || ex.getStatusCode() == 405 || ex.getStatusCode() == 501)) {
+                        log.warn("[PlayerDao] Batch endpoint not available, falling back to per-player saves");
+                        batchEndpointAvailable = false;
+                        return saveIndividually(players, playtimeIncrements);
+                    }
+                    throw new CompletionException("Failed to save player batch", cause);
+                })
+                .thenCompose(future -> future);
+    }
+
+    /**
+     * Saves profiles and playtime increments with one request each
+     */
+    private CompletableFuture<Void> saveIndividually(Collection<Player> players, Map<UUID, Long> playtimeIncrements) {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (Player player : players) {
+            futures.add(apiClient.post("/players", mapPlayerToProfileDto(player), PlayerDto.SuccessResponse.class));
+        }
+        for (Map.Entry<UUID, Long> entry : playtimeIncrements.entrySet()) {
+            futures.add(incrementPlaytime(entry.getKey(), entry.getValue()));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenRun(() -> log.info("[PlayerDao] Saved " + players.size() + " players individually"));
+    }
+
     /**
      * Deletes a player by UUID
      *
@@ -178,7 +228,7 @@ public class PlayerDao {
     /**
      * Maps a PlayerDto to a Player domain object
      */
-    private Player mapDtoToPlayer(PlayerDto dto) {
+    public Player mapDtoToPlayer(PlayerDto dto) {
         Player player = new Player(
                 UUID.fromString(dto.getUuid()),
                 dto.getUsername()
@@ -195,6 +245,63 @@ public class PlayerDao {
         return player;
     }
 
+    /**
+     * Maps a Player to a PlayerDto for profile upserts (without a playtime total)
+     */
+    private PlayerDto mapPlayerToProfileDto(Player player) {
+        return new PlayerDto(
+                player.getUuid().toString(),
+                player.getUsername(),
+                null,
+                player.getFirstLogin() != null ? player.getFirstLogin().format(ISO_FORMATTER) : null,
+                player.getLastLogin() != null ? player.getLastLogin().format(ISO_FORMATTER) : null,
+                player.isOnline(),
+                player.getAdditionalPermissions()
+        );
+    }
+
+    /**
+     * Request wrapper for batched profile upserts and playtime increments
+     */
+    private static class PlayerBatchRequest {
+        private final List<PlayerDto> players;
+        private final List<PlaytimeEntry> playtime;
+
+        public PlayerBatchRequest(List<PlayerDto> players, List<PlaytimeEntry> playtime) {
+            this.players = players;
+            this.playtime = playtime;
+        }
+
+        public List<PlayerDto> getPlayers() {
+            return players;
+        }
+
+        public List<PlaytimeEntry> getPlaytime() {
+            return playtime;
+        }
+    }
+
+    /**
+     * Playtime increment entry within a batch request
+     */
+    private static class PlaytimeEntry {
+        private final String uuid;
+        private final long ticks;
+
+        public PlaytimeEntry(String uuid, long ticks) {
+            this.uuid = uuid;
+            this.ticks = ticks;
+        }
+
+        public String getUuid() {
+            return uuid;
+        }
+
+        public long getTicks() {
+            return ticks;
+        }
+    }
+
     /**
      * Request wrapper for online status updates
      */
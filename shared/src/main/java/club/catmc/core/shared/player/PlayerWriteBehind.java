@@ -0,0 +1,260 @@
+package club.catmc.core.shared.player;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind buffer for player profile updates.
+ * Coalesces dirty state per player (online flag, last login, accumulated playtime)
+ * and flushes it to the API in bulk batches, either when enough players are dirty
+ * or on a fixed interval.
+ */
+public class PlayerWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerWriteBehind.class);
+    private static final long MILLIS_PER_TICK = 50L;
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 5000L;
+
+    // Flushes attempted at shutdown before the remaining writes are given up, and the pause between them
+    private static final int SHUTDOWN_FLUSH_ATTEMPTS = 3;
+    private static final long SHUTDOWN_RETRY_DELAY_MILLIS = 500L;
+
+    private final PlayerDao playerDao;
+    private final boolean trackPlaytime;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    // Pending writes by player UUID
+    private final Map<UUID, PendingWrite> pending;
+
+    // Session start (nanoTime) for online players, used for playtime tracking
+    private final Map<UUID, Long> sessionStarts;
+
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean flushScheduled;
+
+    /**
+     * Creates a new PlayerWriteBehind with default batch size and flush interval
+     *
+     * @param playerDao     The PlayerDao used to flush batches
+     * @param trackPlaytime Whether session time should be recorded as playtime
+     */
+    public PlayerWriteBehind(PlayerDao playerDao, boolean trackPlaytime) {
+        this(playerDao, trackPlaytime, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Creates a new PlayerWriteBehind; call {@link #start()} to begin interval flushes
+     *
+     * @param playerDao           The PlayerDao used to flush batches
+     * @param trackPlaytime       Whether session time should be recorded as playtime
+     * @param batchSize           Number of dirty players that triggers an early flush
+     * @param flushIntervalMillis Maximum time a change stays buffered
+     */
+    public PlayerWriteBehind(PlayerDao playerDao, boolean trackPlaytime, int batchSize, long flushIntervalMillis) {
+        this.playerDao = playerDao;
+        this.trackPlaytime = trackPlaytime;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.pending = new ConcurrentHashMap<>();
+        this.sessionStarts = new ConcurrentHashMap<>();
+        this.flushScheduled = new AtomicBoolean(false);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Core-PlayerWriteBehind");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts flushing buffered changes on the flush interval
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records that a player came online
+     *
+     * @param player The player
+     */
+    public void markOnline(Player player) {
+        if (trackPlaytime) {
+            sessionStarts.put(player.getUuid(), System.nanoTime());
+        }
+        enqueue(player, 0L);
+    }
+
+    /**
+     * Records that a player went offline, accumulating their session playtime
+     *
+     * @param player The player
+     */
+    public void markOffline(Player player) {
+        long ticks = 0L;
+        Long sessionStart = sessionStarts.remove(player.getUuid());
+        if (sessionStart != null) {
+            ticks = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sessionStart) / MILLIS_PER_TICK;
+            player.setPlaytimeTicks(player.getPlaytimeTicks() + ticks);
+        }
+        enqueue(player, ticks);
+    }
+
+    /**
+     * Marks a player's profile as dirty without changing playtime
+     *
+     * @param player The player
+     */
+    public void markDirty(Player player) {
+        enqueue(player, 0L);
+    }
+
+    /**
+     * Gets the number of players with buffered changes
+     *
+     * @return Number of pending writes
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Flushes all buffered changes
+     *
+     * @return CompletableFuture that completes when every batch has been written
+     */
+    public CompletableFuture<Void> flush() {
+        flushScheduled.set(false);
+
+        List<PendingWrite> drained = new ArrayList<>(pending.size());
+        for (UUID uuid : pending.keySet()) {
+            PendingWrite write = pending.remove(uuid);
+            if (write != null) {
+                drained.add(write);
+            }
+        }
+
+        if (drained.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<PendingWrite> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            futures.add(writeBatch(batch));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Stops the flush timer and writes out everything still buffered.
+     * Batches that fail are retried a few times; whatever still fails is logged and dropped.
+     *
+     * @return CompletableFuture that completes when the final flush has finished
+     */
+    public CompletableFuture<Void> shutdown() {
+        scheduler.shutdown();
+        return flushRemaining(SHUTDOWN_FLUSH_ATTEMPTS);
+    }
+
+    private CompletableFuture<Void> flushRemaining(int attemptsLeft) {
+        // Failed batches are requeued before flush() completes, so pending holds exactly what is left
+        return flush().thenCompose(v -> {
+            if (pending.isEmpty()) {
+                log.info("[PlayerWriteBehind] Flushed pending player writes");
+                return CompletableFuture.completedFuture(null);
+            }
+            if (attemptsLeft <= 1) {
+                String players = pending.values().stream()
+                        .map(write -> write.player.getUsername() + " (" + write.player.getUuid() + ")")
+                        .collect(Collectors.joining(", "));
+                log.error("[PlayerWriteBehind] Dropping " + pending.size() + " unsaved player writes at shutdown: " + players);
+                pending.clear();
+                return CompletableFuture.completedFuture(null);
+            }
+
+            log.warn("[PlayerWriteBehind] " + pending.size() + " player writes failed at shutdown, retrying");
+            return CompletableFuture.runAsync(() -> { },
+                            CompletableFuture.delayedExecutor(SHUTDOWN_RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS))
+                    .thenCompose(ignored -> flushRemaining(attemptsLeft - 1));
+        });
+    }
+
+    private void enqueue(Player player, long playtimeTicks) {
+        pending.compute(player.getUuid(), (uuid, write) -> {
+            if (write == null) {
+                return new PendingWrite(player, playtimeTicks);
+            }
+            write.player = player;
+            write.playtimeTicks += playtimeTicks;
+            return write;
+        });
+
+        if (pending.size() >= batchSize && flushScheduled.compareAndSet(false, true) && !scheduler.isShutdown()) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    private CompletableFuture<Void> writeBatch(List<PendingWrite> batch) {
+        List<Player> players = new ArrayList<>(batch.size());
+        Map<UUID, Long> playtime = new HashMap<>();
+        for (PendingWrite write : batch) {
+            players.add(write.player);
+            if (write.playtimeTicks > 0) {
+                playtime.put(write.player.getUuid(), write.playtimeTicks);
+            }
+        }
+
+        return playerDao.saveBatch(players, playtime).exceptionally(e -> {
+            log.error("[PlayerWriteBehind] Failed to write batch of " + batch.size() + " players, requeueing: " + e.getMessage());
+            for (PendingWrite write : batch) {
+                requeue(write);
+            }
+            return null;
+        });
+    }
+
+    private void requeue(PendingWrite failed) {
+        pending.merge(failed.player.getUuid(), failed, (newer, older) -> {
+            // Keep the newest profile state but don't lose the failed playtime
+            newer.playtimeTicks += older.playtimeTicks;
+            return newer;
+        });
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[PlayerWriteBehind] Flush failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Buffered state for a single player
+     */
+    private static class PendingWrite {
+        private Player player;
+        private long playtimeTicks;
+
+        private PendingWrite(Player player, long playtimeTicks) {
+            this.player = player;
+            this.playtimeTicks = playtimeTicks;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package club.catmc.core.shared.punishment;
+
+import club.catmc.core.shared.expiry.ExpiryWheel;
+import club.catmc.core.shared.metrics.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of active mutes for online players.
+ * Loaded together with the player profile and kept current by PUNISH_EXECUTE
+ * notifications, so a mute check is a map lookup instead of an API round trip.
+ * Temporary mutes are dropped by the expiry wheel when they run out, so checks never read the clock.
+ */
+public class MuteCache {
+
+    private static final Logger log = LoggerFactory.getLogger(MuteCache.class);
+
+    private final PunishmentDao punishmentDao;
+    private final ExpiryWheel expiryWheel;
+
+    // Active mute by player UUID (only players with a mute have an entry)
+    private final Map<UUID, Punishment> activeMutes;
+
+    // Players whose mute state is being tracked (online players)
+    private final Set<UUID> trackedPlayers;
+
+    // Pending expiry of each cached temporary mute
+    private final Map<UUID, ExpiryWheel.Timeout> muteExpiries;
+
+    // Lookups of tracked players are hits, lookups of untracked players misses
+    private final CacheStats stats;
+
+    public MuteCache(PunishmentDao punishmentDao, ExpiryWheel expiryWheel) {
+        this.punishmentDao = punishmentDao;
+        this.expiryWheel = expiryWheel;
+        this.activeMutes = new ConcurrentHashMap<>();
+        this.trackedPlayers = ConcurrentHashMap.newKeySet();
+        this.muteExpiries = new ConcurrentHashMap<>();
+        this.stats = new CacheStats();
+    }
+
+    /**
+     * Loads the active mute for a player and starts tracking them.
+     * Used after the mute state was reported as changed, so it never joins a fetch that
+     * started before the change (logins use {@link #track} with the login bundle instead).
+     * Failures are logged and leave the player unmuted.
+     *
+     * @param uuid The player's UUID
+     * @return CompletableFuture that completes when loaded
+     */
+    public CompletableFuture<Void> load(UUID uuid) {
+        trackedPlayers.add(uuid);
+
+        return punishmentDao.refetchActiveMute(uuid).thenAccept(mute -> {
+            // Player may have left while the request was in flight
+            if (!trackedPlayers.contains(uuid)) {
+                return;
+            }
+            setMute(uuid, mute.orElse(null));
+        }).exceptionally(e -> {
+            log.error("[MuteCache] Failed to load mute state for " + uuid + ": " + e.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * Starts tracking a player using punishments that were already fetched,
+     * e.g. as part of the login bundle
+     *
+     * @param uuid               The player's UUID
+     * @param activePunishments The player's active punishments
+     */
+    public void track(UUID uuid, List<Punishment> activePunishments) {
+        trackedPlayers.add(uuid);
+
+        Punishment mute = null;
+        for (Punishment punishment : activePunishments) {
+            if (punishment.getType() == PunishmentType.MUTE || punishment.getType() == PunishmentType.TEMP_MUTE) {
+                mute = punishment;
+                break;
+            }
+        }
+
+        setMute(uuid, mute);
+    }
+
+    /**
+     * Stops tracking a player and drops their cached mute
+     *
+     * @param uuid The player's UUID
+     */
+    public void invalidate(UUID uuid) {
+        trackedPlayers.remove(uuid);
+        setMute(uuid, null);
+    }
+
+    /**
+     * Replaces a player's cached mute and schedules its expiry (null clears it)
+     */
+    private synchronized void setMute(UUID uuid, Punishment mute) {
+        ExpiryWheel.Timeout previous = muteExpiries.remove(uuid);
+        if (previous != null) {
+            previous.cancel();
+        }
+        if (mute == null || mute.isExpired()) {
+            activeMutes.remove(uuid);
+            return;
+        }
+
+        activeMutes.put(uuid, mute);
+        if (mute.getExpiresAt() != null) {
+            muteExpiries.put(uuid, expiryWheel.schedule(mute.getExpiresAt(), () -> expire(uuid, mute)));
+        }
+    }
+
+    /**
+     * Drops a temporary mute once it has run out
+     */
+    private synchronized void expire(UUID uuid, Punishment mute) {
+        if (activeMutes.remove(uuid, mute)) {
+            muteExpiries.remove(uuid);
+            log.info("[MuteCache] Mute " + mute.getId() + " of " + uuid + " expired");
+        }
+    }
+
+    /**
+     * Gets the cached active mute for a player
+     *
+     * @param uuid The player's UUID
+     * @return The active mute, or empty if not muted
+     */
+    public Optional<Punishment> getActiveMute(UUID uuid) {
+        if (trackedPlayers.contains(uuid)) {
+            stats.hit();
+        } else {
+            stats.miss();
+        }
+        return Optional.ofNullable(activeMutes.get(uuid));
+    }
+
+    /**
+     * Checks if a player is currently muted
+     *
+     * @param uuid The player's UUID
+     * @return true if the player has an active mute
+     */
+    public boolean isMuted(UUID uuid) {
+        return getActiveMute(uuid).isPresent();
+    }
+
+    /**
+     * Handles a PUNISH_EXECUTE notification by reloading the mute state
+     * of the affected player, if they are tracked by this cache
+     *
+     * @param uuid           The punished player's UUID
+     * @param punishmentType The executed punishment type
+     */
+    public void onPunishmentExecute(UUID uuid, String punishmentType) {
+        if (!trackedPlayers.contains(uuid)) {
+            return;
+        }
+
+        log.info("[MuteCache] Reloading mute state for " + uuid + " after " + punishmentType);
+        load(uuid);
+    }
+
+    /**
+     * Gets the lookup statistics of this cache
+     *
+     * @return The cache statistics
+     */
+    public CacheStats getStats() {
+        return stats;
+    }
+}
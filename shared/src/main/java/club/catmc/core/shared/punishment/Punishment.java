@@ -141,7 +141,8 @@ public class Punishment {
     }
 
     /**
-     * Check if punishment is expired (current time past expires_at)
+     * Check if punishment is expired (current time past expires_at).
+     * Reads the clock; chat checks use MuteCache, whose mutes are dropped by the expiry wheel.
      */
     public boolean isExpired() {
         return expiresAt != null && LocalDateTime.now().isAfter(expiresAt);
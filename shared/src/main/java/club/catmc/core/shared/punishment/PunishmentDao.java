@@ -86,7 +86,11 @@ public class PunishmentDao {
      */
     public CompletableFuture<List<Punishment>> findActiveByPlayerUuid(UUID playerUuid) {
         Type listType = new TypeToken<List<PunishmentDto>>() {}.getType();
-        return apiClient.get("/punishments/player/" + playerUuid.toString() + "/active", listType)
+        return mapPunishments(apiClient.get("/punishments/player/" + playerUuid.toString() + "/active", listType));
+    }
+
+    private CompletableFuture<List<Punishment>> mapPunishments(CompletableFuture<Object> request) {
+        return request
                 .thenApply(dtos -> {
                     List<Punishment> punishments = new ArrayList<>();
                     @SuppressWarnings("unchecked")
@@ -211,10 +215,26 @@ public class PunishmentDao {
      * @return CompletableFuture containing the mute punishment, or empty if not muted
      */
     public CompletableFuture<Optional<Punishment>> getActiveMute(UUID playerUuid) {
-        return findActiveByPlayerUuid(playerUuid)
-                .thenApply(punishments -> punishments.stream()
-                        .filter(p -> p.getType() == PunishmentType.MUTE || p.getType() == PunishmentType.TEMP_MUTE)
-                        .findFirst());
+        return findActiveByPlayerUuid(playerUuid).thenApply(PunishmentDao::findMute);
+    }
+
+    /**
+     * Fetches a player's active mute after their punishments were reported as changed,
+     * without joining a fetch that started before
+     *
+     * @param playerUuid The player's UUID
+     * @return CompletableFuture containing the mute punishment, or empty if not muted
+     */
+    public CompletableFuture<Optional<Punishment>> refetchActiveMute(UUID playerUuid) {
+        Type listType = new TypeToken<List<PunishmentDto>>() {}.getType();
+        return mapPunishments(apiClient.getFresh("/punishments/player/" + playerUuid.toString() + "/active", listType))
+                .thenApply(PunishmentDao::findMute);
+    }
+
+    private static Optional<Punishment> findMute(List<Punishment> punishments) {
+        return punishments.stream()
+                .filter(p -> p.getType() == PunishmentType.MUTE || p.getType() == PunishmentType.TEMP_MUTE)
+                .findFirst();
     }
 
     /**
@@ -245,7 +265,7 @@ public class PunishmentDao {
     /**
      * Maps a PunishmentDto to a Punishment domain object
      */
-    private Punishment mapDtoToPunishment(PunishmentDto dto) {
+    public Punishment mapDtoToPunishment(PunishmentDto dto) {
         Punishment punishment = new Punishment();
         punishment.setId(dto.getId());
         punishment.setPlayerUuid(UUID.fromString(dto.getPlayerUuid()));
@@ -0,0 +1,247 @@
+package club.catmc.core.shared.rank;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled, immutable permission lookup structure.
+ * Permission nodes are split on '.' into a trie of interned segments, so a check walks
+ * at most one node per segment of the queried permission and allocates nothing.
+ *
+ * Supported node syntax:
+ * - "core.fly" grants a single permission
+ * - "core.*" grants every permission below "core" (but not "core" itself)
+ * - "*" grants every permission
+ * - a leading '-' negates the node, e.g. "-core.fly" or "-core.*"
+ *
+ * Resolution: an exact node wins over any wildcard, and a deeper wildcard wins over
+ * a shallower one. If the same node is listed twice, the later entry wins.
+ * Nodes are matched case-insensitively.
+ */
+public final class PermissionIndex {
+
+    /** Result of a lookup: no node matched */
+    public static final int UNDEFINED = 0;
+    /** Result of a lookup: the permission is granted */
+    public static final int ALLOW = 1;
+    /** Result of a lookup: the permission is explicitly negated */
+    public static final int DENY = -1;
+
+    /** Index without any nodes */
+    public static final PermissionIndex EMPTY = new PermissionIndex(new Node(), 0);
+
+    // Shared segment pool so identical segments across ranks and players share one String
+    private static final Map<String, String> SEGMENTS = new ConcurrentHashMap<>();
+
+    private final Node root;
+    private final int size;
+
+    private PermissionIndex(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Compiles a list of permission nodes into an index
+     *
+     * @param permissions The permission nodes (may be null)
+     * @return The compiled index
+     */
+    public static PermissionIndex compile(Collection<String> permissions) {
+        if (permissions == null || permissions.isEmpty()) {
+            return EMPTY;
+        }
+
+        Builder root = new Builder();
+        int size = 0;
+        for (String permission : permissions) {
+            if (permission == null) {
+                continue;
+            }
+            String node = permission.trim();
+            int value = ALLOW;
+            if (node.startsWith("-")) {
+                node = node.substring(1);
+                value = DENY;
+            }
+            if (node.isEmpty()) {
+                continue;
+            }
+            root.insert(node.toLowerCase(Locale.ROOT), value);
+            size++;
+        }
+        return size == 0 ? EMPTY : new PermissionIndex(root.freeze(), size);
+    }
+
+    /**
+     * Looks up a permission
+     *
+     * @param permission The permission node to check
+     * @return ALLOW, DENY or UNDEFINED
+     */
+    public int lookup(String permission) {
+        int length = permission.length();
+        Node node = root;
+        int result = root.wildcard;
+        int start = 0;
+
+        while (true) {
+            int end = permission.indexOf('.', start);
+            if (end < 0) {
+                end = length;
+            }
+
+            Node child = node.child(permission, start, end);
+            if (child == null) {
+                return result;
+            }
+            if (end == length) {
+                return child.value != UNDEFINED ? child.value : result;
+            }
+            if (child.wildcard != UNDEFINED) {
+                result = child.wildcard;
+            }
+
+            node = child;
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Checks if a permission is granted
+     *
+     * @param permission The permission node to check
+     * @return true if the permission resolves to ALLOW
+     */
+    public boolean hasPermission(String permission) {
+        return lookup(permission) == ALLOW;
+    }
+
+    /**
+     * Gets the number of nodes compiled into this index
+     *
+     * @return Number of permission nodes
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static String intern(String segment) {
+        String existing = SEGMENTS.putIfAbsent(segment, segment);
+        return existing != null ? existing : segment;
+    }
+
+    /**
+     * Hash of a lower-cased region of a string, equal to String.hashCode of that region
+     */
+    private static int hash(String s, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + Character.toLowerCase(s.charAt(i));
+        }
+        return h;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Immutable trie node with an open-addressing child table
+     */
+    private static final class Node {
+        private final String[] keys;
+        private final Node[] children;
+        private final int mask;
+        private final int value;
+        private final int wildcard;
+
+        private Node() {
+            this(null, null, UNDEFINED, UNDEFINED);
+        }
+
+        private Node(String[] keys, Node[] children, int value, int wildcard) {
+            this.keys = keys;
+            this.children = children;
+            this.mask = keys != null ? keys.length - 1 : 0;
+            this.value = value;
+            this.wildcard = wildcard;
+        }
+
+        private Node child(String permission, int start, int end) {
+            if (keys == null) {
+                return null;
+            }
+            int length = end - start;
+            int slot = spread(hash(permission, start, end)) & mask;
+            while (true) {
+                String key = keys[slot];
+                if (key == null) {
+                    return null;
+                }
+                if (key.length() == length && permission.regionMatches(true, start, key, 0, length)) {
+                    return children[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+    }
+
+    /**
+     * Mutable node used while compiling
+     */
+    private static final class Builder {
+        private final Map<String, Builder> children = new LinkedHashMap<>();
+        private int value = UNDEFINED;
+        private int wildcard = UNDEFINED;
+
+        private void insert(String node, int nodeValue) {
+            Builder current = this;
+            int start = 0;
+            while (true) {
+                int end = node.indexOf('.', start);
+                String segment = end < 0 ? node.substring(start) : node.substring(start, end);
+
+                if (segment.equals("*") && end < 0) {
+                    current.wildcard = nodeValue;
+                    return;
+                }
+                current = current.children.computeIfAbsent(intern(segment), key -> new Builder());
+                if (end < 0) {
+                    current.value = nodeValue;
+                    return;
+                }
+                start = end + 1;
+            }
+        }
+
+        private Node freeze() {
+            if (children.isEmpty()) {
+                return new Node(null, null, value, wildcard);
+            }
+
+            int capacity = Integer.highestOneBit(Math.max(2, children.size() * 2 - 1)) << 1;
+            String[] keys = new String[capacity];
+            Node[] nodes = new Node[capacity];
+            int mask = capacity - 1;
+
+            for (Map.Entry<String, Builder> entry : children.entrySet()) {
+                String key = entry.getKey();
+                int slot = spread(hash(key, 0, key.length())) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                nodes[slot] = entry.getValue().freeze();
+            }
+            return new Node(keys, nodes, value, wildcard);
+        }
+    }
+}
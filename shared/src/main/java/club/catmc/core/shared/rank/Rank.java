@@ -1,5 +1,6 @@
 package club.catmc.core.shared.rank;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -15,6 +16,13 @@ public class Rank {
     private int priority;
     private boolean defaultRank;
     private List<String> permissions;
+    private List<String> parents;
+
+    // Own permissions merged with inherited ones, resolved by RankInheritance
+    private volatile List<String> effectivePermissions;
+
+    // Compiled form of the effective permissions, paired with the list it was compiled from
+    private volatile CompiledPermissions compiledPermissions;
 
     /**
      * Creates a new Rank with required fields
@@ -47,6 +55,18 @@ public class Rank {
         this.permissions = permissions;
     }
 
+    /**
+     * Copies this rank, e.g. to resolve it again without touching a published snapshot
+     *
+     * @return A new Rank with the same fields and effective permissions
+     */
+    public Rank copy() {
+        Rank copy = new Rank(id, name, displayName, prefix, suffix, priority, defaultRank, permissions);
+        copy.parents = parents;
+        copy.effectivePermissions = effectivePermissions;
+        return copy;
+    }
+
     // Getters and Setters
     public String getId() {
         return id;
@@ -110,6 +130,60 @@ public class Rank {
 
     public void setPermissions(List<String> permissions) {
         this.permissions = permissions;
+        this.effectivePermissions = null;
+    }
+
+    /**
+     * Gets the IDs of the ranks this rank inherits from
+     *
+     * @return Parent rank IDs, never null
+     */
+    public List<String> getParents() {
+        return parents != null ? parents : Collections.emptyList();
+    }
+
+    public void setParents(List<String> parents) {
+        this.parents = parents;
+    }
+
+    /**
+     * Gets this rank's permissions including inherited ones.
+     * Falls back to the rank's own permissions until inheritance has been resolved.
+     *
+     * @return Effective permission nodes
+     */
+    public List<String> getEffectivePermissions() {
+        List<String> effective = effectivePermissions;
+        if (effective != null) {
+            return effective;
+        }
+        return permissions != null ? permissions : Collections.emptyList();
+    }
+
+    /**
+     * Sets the resolved effective permissions
+     *
+     * @param effectivePermissions Own and inherited permission nodes
+     */
+    public void setEffectivePermissions(List<String> effectivePermissions) {
+        this.effectivePermissions = effectivePermissions;
+    }
+
+    /**
+     * Gets the compiled index of this rank's effective permissions, compiling it on first use.
+     * The index is only reused while it was compiled from the current permission list, so an
+     * index built from a list that was replaced meanwhile is never served.
+     *
+     * @return The permission index
+     */
+    public PermissionIndex getPermissionIndex() {
+        List<String> effective = getEffectivePermissions();
+        CompiledPermissions compiled = compiledPermissions;
+        if (compiled == null || compiled.source != effective) {
+            compiled = new CompiledPermissions(effective, PermissionIndex.compile(effective));
+            compiledPermissions = compiled;
+        }
+        return compiled.index;
     }
 
     /**
@@ -123,13 +197,13 @@ public class Rank {
     }
 
     /**
-     * Checks if this rank has a specific permission
+     * Checks if this rank has a specific permission, honouring inheritance, wildcards and negations
      *
      * @param permission The permission node to check
      * @return true if the rank has the permission
      */
     public boolean hasPermission(String permission) {
-        return permissions != null && permissions.contains(permission);
+        return getPermissionIndex().hasPermission(permission);
     }
 
     /**
@@ -159,4 +233,14 @@ public class Rank {
         }
         return username;
     }
+
+    private static final class CompiledPermissions {
+        private final List<String> source;
+        private final PermissionIndex index;
+
+        private CompiledPermissions(List<String> source, PermissionIndex index) {
+            this.source = source;
+            this.index = index;
+        }
+    }
 }
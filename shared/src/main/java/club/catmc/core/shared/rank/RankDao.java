@@ -41,7 +41,21 @@ public class RankDao {
      * @return CompletableFuture containing Optional<Rank>
      */
     public CompletableFuture<Optional<Rank>> findById(String id) {
-        return apiClient.get("/ranks/" + id, RankDto.class)
+        return mapRank(apiClient.get("/ranks/" + id, RankDto.class));
+    }
+
+    /**
+     * Fetches a rank after it was reported as changed, without joining a fetch that started before
+     *
+     * @param id The rank ID
+     * @return CompletableFuture containing the rank if found
+     */
+    public CompletableFuture<Optional<Rank>> refetchById(String id) {
+        return mapRank(apiClient.getFresh("/ranks/" + id, RankDto.class));
+    }
+
+    private CompletableFuture<Optional<Rank>> mapRank(CompletableFuture<RankDto> request) {
+        return request
                 .thenApply(dto -> Optional.ofNullable(dto != null ? mapDtoToRank(dto) : null))
                 .exceptionally(e -> {
                     if (e.getCause() instanceof ApiClient.ApiClientException) {
@@ -80,7 +94,21 @@ public class RankDao {
      */
     public CompletableFuture<List<Rank>> findAll() {
         Type listType = new TypeToken<List<RankDto>>() {}.getType();
-        return apiClient.get("/ranks", listType)
+        return mapRanks(apiClient.get("/ranks", listType));
+    }
+
+    /**
+     * Fetches all ranks after changes may have been missed, without joining a fetch that started before
+     *
+     * @return CompletableFuture containing List<Rank>
+     */
+    public CompletableFuture<List<Rank>> refetchAll() {
+        Type listType = new TypeToken<List<RankDto>>() {}.getType();
+        return mapRanks(apiClient.getFresh("/ranks", listType));
+    }
+
+    private CompletableFuture<List<Rank>> mapRanks(CompletableFuture<Object> request) {
+        return request
                 .thenApply(dtos -> {
                     List<Rank> ranks = new ArrayList<>();
                     @SuppressWarnings("unchecked")
@@ -109,6 +137,7 @@ public class RankDao {
                 rank.isDefaultRank(),
                 rank.getPermissions()
         );
+        dto.setParents(rank.getParents());
         return apiClient.post("/ranks", dto, RankDto.SuccessResponse.class)
                 .thenRun(() -> log.info("[RankDao] Saved rank: " + rank.getId()));
     }
@@ -138,6 +167,7 @@ public class RankDao {
                 dto.getIsDefault() != null ? dto.getIsDefault() : false,
                 dto.getPermissions()
         );
+        rank.setParents(dto.getParents());
         return rank;
     }
 }
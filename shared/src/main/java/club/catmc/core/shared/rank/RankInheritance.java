@@ -0,0 +1,147 @@
+package club.catmc.core.shared.rank;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves rank inheritance into effective permission lists.
+ * A rank's effective permissions are its parents' effective permissions (in the order the
+ * parents are listed) followed by its own, so a rank can override or negate anything it
+ * inherits. Results are stored on the Rank objects and shared by every player holding them;
+ * a Rank that is part of a published {@link RankRegistry} is never modified, it is copied first.
+ * Cycles and unknown parents are logged and skipped.
+ */
+public final class RankInheritance {
+
+    private static final Logger log = LoggerFactory.getLogger(RankInheritance.class);
+
+    private RankInheritance() {
+    }
+
+    /**
+     * Resolves effective permissions for every rank, in place
+     *
+     * @param ranks All ranks by ID; none of them may be part of a published snapshot yet
+     */
+    public static void resolveAll(Map<String, Rank> ranks) {
+        resolve(ranks, ranks.keySet());
+    }
+
+    /**
+     * Re-resolves a rank that changed and every rank inheriting from it, directly or indirectly.
+     * The descendants are replaced in the map by copies before resolving, so the snapshot the
+     * map was taken from keeps its permissions. All other ranks are left as they are.
+     *
+     * @param ranks  All ranks by ID, already containing the changed rank (or without it if removed)
+     * @param rankId The ID of the rank that changed
+     * @return IDs of the ranks whose effective permissions were recomputed
+     */
+    public static Set<String> invalidate(Map<String, Rank> ranks, String rankId) {
+        Set<String> affected = descendantsOf(ranks, rankId);
+        for (String descendant : affected) {
+            ranks.put(descendant, ranks.get(descendant).copy());
+        }
+        if (ranks.containsKey(rankId)) {
+            affected.add(rankId);
+        }
+        resolve(ranks, affected);
+        return affected;
+    }
+
+    /**
+     * Finds every rank that inherits from a rank, directly or indirectly
+     *
+     * @param ranks  All ranks by ID
+     * @param rankId The ancestor rank ID
+     * @return IDs of the descendant ranks
+     */
+    public static Set<String> descendantsOf(Map<String, Rank> ranks, String rankId) {
+        Map<String, List<String>> children = new HashMap<>();
+        for (Rank rank : ranks.values()) {
+            for (String parent : rank.getParents()) {
+                children.computeIfAbsent(parent, key -> new ArrayList<>()).add(rank.getId());
+            }
+        }
+
+        Set<String> descendants = new LinkedHashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(rankId);
+        while (!queue.isEmpty()) {
+            for (String child : children.getOrDefault(queue.poll(), Collections.emptyList())) {
+                if (!child.equals(rankId) && descendants.add(child)) {
+                    queue.add(child);
+                }
+            }
+        }
+        return descendants;
+    }
+
+    /**
+     * Resolves the given ranks; ranks outside the set are treated as already resolved
+     */
+    private static void resolve(Map<String, Rank> ranks, Set<String> targets) {
+        Map<String, List<String>> resolved = new HashMap<>();
+        for (String rankId : targets) {
+            resolveRank(ranks, targets, rankId, resolved, new HashSet<>());
+        }
+        for (Map.Entry<String, List<String>> entry : resolved.entrySet()) {
+            ranks.get(entry.getKey()).setEffectivePermissions(entry.getValue());
+        }
+    }
+
+    private static List<String> resolveRank(Map<String, Rank> ranks, Set<String> targets, String rankId,
+                                            Map<String, List<String>> resolved, Set<String> visiting) {
+        List<String> done = resolved.get(rankId);
+        if (done != null) {
+            return done;
+        }
+
+        Rank rank = ranks.get(rankId);
+        if (!targets.contains(rankId)) {
+            return rank.getEffectivePermissions();
+        }
+
+        visiting.add(rankId);
+        LinkedHashSet<String> effective = new LinkedHashSet<>();
+        for (String parentId : rank.getParents()) {
+            if (!ranks.containsKey(parentId)) {
+                log.warn("[RankInheritance] Rank " + rankId + " inherits from unknown rank " + parentId);
+                continue;
+            }
+            if (visiting.contains(parentId)) {
+                log.warn("[RankInheritance] Ignoring inheritance cycle " + rankId + " -> " + parentId);
+                continue;
+            }
+            append(effective, resolveRank(ranks, targets, parentId, resolved, visiting));
+        }
+        if (rank.getPermissions() != null) {
+            append(effective, rank.getPermissions());
+        }
+        visiting.remove(rankId);
+
+        List<String> result = Collections.unmodifiableList(new ArrayList<>(effective));
+        resolved.put(rankId, result);
+        return result;
+    }
+
+    /**
+     * Appends nodes, moving nodes that are already present to the end so later sources win
+     */
+    private static void append(LinkedHashSet<String> effective, List<String> permissions) {
+        for (String permission : permissions) {
+            effective.remove(permission);
+            effective.add(permission);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package club.catmc.core.shared.rank;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, versioned snapshot of all ranks.
+ * A new snapshot is built for every change and published as a whole, so readers
+ * always see one consistent set of ranks without locking.
+ * Ranks are kept in priority order (highest first) together with an id-to-position index.
+ */
+public final class RankRegistry {
+
+    /** Orders ranks by descending priority, then by ID for a stable order */
+    public static final Comparator<Rank> PRIORITY_ORDER = Comparator.comparingInt(Rank::getPriority).reversed()
+            .thenComparing(Rank::getId);
+
+    /** Registry without any ranks */
+    public static final RankRegistry EMPTY = new RankRegistry(0L, new Rank[0]);
+
+    private final long version;
+    private final Rank[] byPriority;
+    private final List<Rank> byPriorityView;
+    private final Map<String, Integer> indexById;
+    private final Rank defaultRank;
+
+    private RankRegistry(long version, Rank[] byPriority) {
+        this.version = version;
+        this.byPriority = byPriority;
+        this.byPriorityView = Collections.unmodifiableList(Arrays.asList(byPriority));
+
+        Map<String, Integer> index = new HashMap<>(byPriority.length * 2);
+        Rank defaultRank = null;
+        for (int i = 0; i < byPriority.length; i++) {
+            index.put(byPriority[i].getId(), i);
+            if (defaultRank == null && byPriority[i].isDefaultRank()) {
+                defaultRank = byPriority[i];
+            }
+        }
+        this.indexById = index;
+        this.defaultRank = defaultRank;
+    }
+
+    /**
+     * Creates a registry snapshot
+     *
+     * @param version The snapshot version
+     * @param ranks   The ranks, with inheritance already resolved
+     * @return The new registry
+     */
+    public static RankRegistry of(long version, Collection<Rank> ranks) {
+        Rank[] sorted = ranks.toArray(new Rank[0]);
+        Arrays.sort(sorted, PRIORITY_ORDER);
+        return new RankRegistry(version, sorted);
+    }
+
+    /**
+     * Gets the snapshot version; every published change increments it
+     *
+     * @return The version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets a rank by ID
+     *
+     * @param rankId The rank ID
+     * @return The rank, or null if not found
+     */
+    public Rank get(String rankId) {
+        Integer index = rankId != null ? indexById.get(rankId) : null;
+        return index != null ? byPriority[index] : null;
+    }
+
+    /**
+     * Gets the position of a rank in priority order (0 is the highest priority)
+     *
+     * @param rankId The rank ID
+     * @return The position, or -1 if not found
+     */
+    public int indexOf(String rankId) {
+        Integer index = rankId != null ? indexById.get(rankId) : null;
+        return index != null ? index : -1;
+    }
+
+    public boolean contains(String rankId) {
+        return indexOf(rankId) >= 0;
+    }
+
+    /**
+     * Gets all ranks, highest priority first
+     *
+     * @return Unmodifiable list of ranks
+     */
+    public List<Rank> getRanks() {
+        return byPriorityView;
+    }
+
+    /**
+     * Gets the default rank
+     *
+     * @return The highest-priority rank flagged as default, or null if none
+     */
+    public Rank getDefaultRank() {
+        return defaultRank;
+    }
+
+    public int size() {
+        return byPriority.length;
+    }
+
+    /**
+     * Copies the ranks into a mutable map, e.g. to prepare the next snapshot
+     *
+     * @return Ranks by ID in priority order
+     */
+    public Map<String, Rank> toMap() {
+        Map<String, Rank> ranks = new LinkedHashMap<>(byPriority.length * 2);
+        for (Rank rank : byPriority) {
+            ranks.put(rank.getId(), rank);
+        }
+        return ranks;
+    }
+}
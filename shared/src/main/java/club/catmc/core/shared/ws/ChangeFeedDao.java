@@ -0,0 +1,110 @@
+package club.catmc.core.shared.ws;
+
+import club.catmc.core.shared.api.ApiClient;
+import club.catmc.core.shared.dto.ChangeSetDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Data Access Object for the event change feed.
+ * After events were missed, {@code POST /events/changes} reports which of the given players
+ * and which ranks changed after a sequence number, so only those need reloading. An empty
+ * result means no delta is available: the feed is not implemented, the sequence number is
+ * unknown or too old ({@code 410 Gone}), or the request failed.
+ */
+public class ChangeFeedDao {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedDao.class);
+    private final ApiClient apiClient;
+
+    // Cleared the first time the API reports the change feed as missing
+    private volatile boolean endpointAvailable = true;
+
+    public ChangeFeedDao(ApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    /**
+     * Finds what changed after a sequence number
+     *
+     * @param sinceSeq The sequence number of the last event handled
+     * @param players  The players to check, normally those online
+     * @return CompletableFuture containing the changes, or empty if no delta is available
+     */
+    public CompletableFuture<Optional<ChangeSet>> findChangesSince(long sinceSeq, Collection<UUID> players) {
+        if (sinceSeq < 0 || !endpointAvailable) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        List<String> uuids = new ArrayList<>(players.size());
+        for (UUID uuid : players) {
+            uuids.add(uuid.toString());
+        }
+
+        return apiClient.post("/events/changes", new ChangesRequest(sinceSeq, uuids), ChangeSetDto.class)
+                .thenApply(dto -> Optional.of(mapDtoToChangeSet(dto)))
+                .exceptionally(e -> {
+                    int status = statusOf(e);
+                    if (status == 404 || status == 405 || status == 501) {
+                        log.warn("[ChangeFeedDao] Change feed not available, resyncs will reload everything");
+                        endpointAvailable = false;
+                    } else if (status == 410) {
+                        log.warn("[ChangeFeedDao] Changes after seq " + sinceSeq + " are no longer available");
+                    } else {
+                        log.error("[ChangeFeedDao] Failed to fetch changes after seq " + sinceSeq + ": " + e.getMessage());
+                    }
+                    return Optional.empty();
+                });
+    }
+
+    private ChangeSet mapDtoToChangeSet(ChangeSetDto dto) {
+        Set<UUID> players = new HashSet<>();
+        if (dto.getPlayers() != null) {
+            for (String uuid : dto.getPlayers()) {
+                players.add(UUID.fromString(uuid));
+            }
+        }
+
+        Set<String> ranks = dto.getRanks() != null ? new HashSet<>(dto.getRanks()) : new HashSet<>();
+        return new ChangeSet(dto.getSeq(), players, ranks);
+    }
+
+    private static int statusOf(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof ApiClient.ApiClientException) {
+            return ((ApiClient.ApiClientException) cause).getStatusCode();
+        }
+        return -1;
+    }
+
+    /**
+     * Request body for the change feed
+     */
+    private static class ChangesRequest {
+        private final long sinceSeq;
+        private final List<String> players;
+
+        public ChangesRequest(long sinceSeq, List<String> players) {
+            this.sinceSeq = sinceSeq;
+            this.players = players;
+        }
+
+        public long getSinceSeq() {
+            return sinceSeq;
+        }
+
+        public List<String> getPlayers() {
+            return players;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package club.catmc.core.shared.ws;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The players and ranks that changed while events were being missed
+ */
+public class ChangeSet {
+
+    private final long seq;
+    private final Set<UUID> players;
+    private final Set<String> ranks;
+
+    public ChangeSet(long seq, Set<UUID> players, Set<String> ranks) {
+        this.seq = seq;
+        this.players = players;
+        this.ranks = ranks;
+    }
+
+    /**
+     * Gets the sequence number the change set is current up to
+     */
+    public long getSeq() {
+        return seq;
+    }
+
+    public Set<UUID> getPlayers() {
+        return players;
+    }
+
+    public Set<String> getRanks() {
+        return ranks;
+    }
+}
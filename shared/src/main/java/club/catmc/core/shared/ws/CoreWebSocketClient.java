@@ -1,15 +1,33 @@
 package club.catmc.core.shared.ws;
 
+import club.catmc.core.shared.metrics.MetricsRegistry;
+import club.catmc.core.shared.ws.event.AckEvent;
+import club.catmc.core.shared.ws.event.ConnectedEvent;
+import club.catmc.core.shared.ws.event.WebSocketEvent;
+import club.catmc.core.shared.ws.event.WebSocketEventDecoder;
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import org.java_websocket.handshake.ServerHandshake;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 /**
  * WebSocket client for real-time communication with the Core API
@@ -17,15 +35,63 @@ import java.util.function.Consumer;
 public class CoreWebSocketClient extends WebSocketClient {
 
     private static final Logger log = LoggerFactory.getLogger(CoreWebSocketClient.class);
+
+    // Messages kept while disconnected before the oldest are dropped
+    private static final int OUTBOUND_CAPACITY = 1024;
+    // Messages packed into one BATCH frame when several are waiting and the server accepts them
+    private static final int MAX_BATCH_SIZE = 64;
+    // First and longest delay between reconnect attempts, see ReconnectBackoff
+    private static final long RECONNECT_BASE_MILLIS = 1000;
+    private static final long RECONNECT_MAX_MILLIS = 60_000;
+    // A connection that stayed open this long starts the next backoff over from the base delay
+    private static final long STABLE_CONNECTION_MILLIS = 30_000;
+
+    /**
+     * Connection states. CLOSED is both the state before the first connect and the
+     * terminal state after {@link #shutdown()}.
+     */
+    public enum ConnectionState {
+        CONNECTING,
+        OPEN,
+        BACKOFF,
+        CLOSED
+    }
+
     private final Gson gson;
     private final String serverType;
     private final String serverName;
     private final String apiKey;
 
-    private Consumer<JsonObject> messageHandler;
+    private final LogSampler logSampler = new LogSampler(10, TimeUnit.SECONDS);
+    private final OutboundQueue outbound = new OutboundQueue(OUTBOUND_CAPACITY);
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final LongAdder droppedOverflow;
+    private final LongAdder coalesced;
+    private final LongAdder singleFrames;
+    private final LongAdder batchFrames;
+    private final LongAdder duplicateEvents;
+    private final LongAdder gapResyncs;
+    private final LongAdder notResumedResyncs;
+    private final LongAdder reconnectAttempts;
+
+    private final AtomicReference<ConnectionState> state = new AtomicReference<>(ConnectionState.CLOSED);
+    private final ReconnectBackoff backoff = new ReconnectBackoff(RECONNECT_BASE_MILLIS, RECONNECT_MAX_MILLIS);
+    private final ScheduledExecutorService reconnectScheduler;
+    private volatile ScheduledFuture<?> pendingReconnect;
+    private volatile long openedAt;
+
+    // Connect URI without the resume parameter
+    private final String baseUri;
+    // Sequence number of the last event handled, -1 before the server numbered any
+    private volatile long lastSeq = -1;
+    private volatile boolean hasConnected = false;
+    // Whether the server advertised BATCH support in CONNECTED; one frame per message until then
+    private volatile boolean batching = false;
+
+    private Consumer<WebSocketEvent> eventHandler;
+    private LongConsumer onResync;
     private Runnable onConnect;
     private Runnable onDisconnect;
-    private volatile boolean isConnected = false;
 
     /**
      * Create a new WebSocket client
@@ -36,7 +102,22 @@ public class CoreWebSocketClient extends WebSocketClient {
      * @param apiKey     The API key for authentication
      */
     public CoreWebSocketClient(String serverUri, String serverType, String serverName, String apiKey) {
+        this(serverUri, serverType, serverName, apiKey, new MetricsRegistry());
+    }
+
+    /**
+     * Create a new WebSocket client
+     *
+     * @param serverUri  The WebSocket server URI (e.g., ws://localhost:3000/ws)
+     * @param serverType The type of server ('paper' for game servers, 'bungee' for proxy)
+     * @param serverName The name of this server instance
+     * @param apiKey     The API key for authentication
+     * @param metrics    Registry for the connection and outbound queue metrics
+     */
+    public CoreWebSocketClient(String serverUri, String serverType, String serverName, String apiKey,
+                               MetricsRegistry metrics) {
         super(URI.create(serverUri + "?api_key=" + apiKey + "&type=" + serverType + "&name=" + serverName));
+        this.baseUri = uri.toString();
         this.gson = new Gson();
         this.serverType = serverType;
         this.serverName = serverName;
@@ -44,13 +125,49 @@ public class CoreWebSocketClient extends WebSocketClient {
 
         // Set connection timeout to 30 seconds
         this.setConnectionLostTimeout(30);
+
+        this.droppedOverflow = metrics.counter("core_ws_outbound_dropped_total", "reason", "overflow");
+        this.coalesced = metrics.counter("core_ws_outbound_coalesced_total");
+        this.singleFrames = metrics.counter("core_ws_outbound_frames_total", "kind", "single");
+        this.batchFrames = metrics.counter("core_ws_outbound_frames_total", "kind", "batch");
+        metrics.gauge("core_ws_outbound_backlog", outbound::size);
+
+        this.duplicateEvents = metrics.counter("core_ws_duplicate_events_total");
+        this.gapResyncs = metrics.counter("core_ws_resyncs_total", "reason", "gap");
+        this.notResumedResyncs = metrics.counter("core_ws_resyncs_total", "reason", "not_resumed");
+        metrics.gauge("core_ws_last_seq", () -> lastSeq);
+
+        this.reconnectAttempts = metrics.counter("core_ws_reconnect_attempts_total");
+        metrics.gauge("core_ws_reconnect_failures", backoff::getAttempts);
+        for (ConnectionState value : ConnectionState.values()) {
+            metrics.gauge("core_ws_state", () -> state.get() == value ? 1 : 0, "state", value.name().toLowerCase(Locale.ROOT));
+        }
+
+        this.reconnectScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Core-WebSocket-Reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public void onOpen(ServerHandshake handshakedata) {
-        isConnected = true;
+        if (!state.compareAndSet(ConnectionState.CONNECTING, ConnectionState.OPEN)) {
+            // A reconnect that was already under way when the client was shut down
+            close();
+            return;
+        }
+        openedAt = System.currentTimeMillis();
+        batching = false;
         log.info("[WebSocket] Connected to Core API as {}/{}", serverType, serverName);
 
+        // Replay whatever was queued while disconnected
+        int backlog = outbound.size();
+        if (backlog > 0) {
+            log.info("[WebSocket] Replaying {} queued messages", backlog);
+            flush();
+        }
+
         if (onConnect != null) {
             onConnect.run();
         }
@@ -60,30 +177,112 @@ public class CoreWebSocketClient extends WebSocketClient {
     public void onMessage(String message) {
         log.debug("[WebSocket] Received message: {}", message);
 
+        WebSocketEvent event;
         try {
-            JsonObject json = gson.fromJson(message, JsonObject.class);
-            String type = json.has("type") ? json.get("type").getAsString() : "UNKNOWN";
+            event = WebSocketEventDecoder.decode(message);
+        } catch (Exception e) {
+            long skipped = logSampler.sample("decode");
+            if (skipped >= 0) {
+                log.error("[WebSocket] Failed to parse message: {} ({} similar errors not logged)", e.getMessage(), skipped);
+            }
+            return;
+        }
 
-            log.info("[WebSocket] Received {} message", type);
+        if (event instanceof ConnectedEvent connected) {
+            onConnected(connected);
+        } else if (!acceptSequence(event) || event instanceof AckEvent) {
+            return;
+        }
 
-            if (messageHandler != null) {
-                messageHandler.accept(json);
-            }
+        if (eventHandler != null) {
+            eventHandler.accept(event);
+        }
+    }
+
+    /**
+     * Works out where the stream continues after the server accepted the connection.
+     * If a reconnect could not be resumed, the events in between are gone and a resync is requested.
+     * Servers that do not number their events cannot resume either, so they get no resync.
+     */
+    private void onConnected(ConnectedEvent connected) {
+        batching = connected.isBatching();
+        boolean reconnect = hasConnected;
+        hasConnected = true;
+        if (connected.isResumed()) {
+            log.info("[WebSocket] Resumed event stream after seq {}", lastSeq);
+            return;
+        }
+        if (connected.getSeq() < 0) {
+            lastSeq = -1;
+            return;
+        }
+
+        long since = lastSeq;
+        // The server may have restarted with a new sequence, so continue from wherever it is now
+        lastSeq = connected.getSeq();
+        if (reconnect) {
+            log.warn("[WebSocket] Server could not resume after seq {}, requesting a resync", since);
+            notResumedResyncs.increment();
+            requestResync(since);
+        }
+    }
+
+    /**
+     * Tracks the sequence number of an event
+     *
+     * @return false if the event was already handled, e.g. when a resume replays it again
+     */
+    private boolean acceptSequence(WebSocketEvent event) {
+        long seq = event.getSeq();
+        if (seq < 0) {
+            return true;
+        }
+
+        long last = lastSeq;
+        if (seq <= last) {
+            duplicateEvents.increment();
+            return false;
+        }
+
+        lastSeq = seq;
+        if (last >= 0 && seq > last + 1) {
+            log.warn("[WebSocket] Missed events {} to {}, requesting a resync", last + 1, seq - 1);
+            gapResyncs.increment();
+            requestResync(last);
+        }
+        return true;
+    }
+
+    private void requestResync(long sinceSeq) {
+        if (onResync == null) {
+            return;
+        }
+        try {
+            onResync.accept(sinceSeq);
         } catch (Exception e) {
-            log.error("[WebSocket] Failed to parse message: {}", e.getMessage());
+            log.error("[WebSocket] Resync failed: {}", e.getMessage());
         }
     }
 
     @Override
     public void onClose(int code, String reason, boolean remote) {
-        isConnected = false;
-        log.warn("[WebSocket] Disconnected from Core API: {} (code: {})", reason, code);
+        ConnectionState previous = state.getAndUpdate(s -> s == ConnectionState.CLOSED ? s : ConnectionState.BACKOFF);
+        if (previous == ConnectionState.CLOSED) {
+            log.info("[WebSocket] Connection closed: {} (code: {})", reason, code);
+        } else {
+            log.warn("[WebSocket] Disconnected from Core API: {} (code: {})", reason, code);
+        }
 
         if (onDisconnect != null) {
             onDisconnect.run();
         }
 
-        // Attempt to reconnect after 5 seconds
+        if (previous == ConnectionState.CLOSED) {
+            return;
+        }
+        if (previous == ConnectionState.OPEN && System.currentTimeMillis() - openedAt >= STABLE_CONNECTION_MILLIS) {
+            backoff.reset();
+        }
         scheduleReconnect();
     }
 
@@ -93,10 +292,27 @@ public class CoreWebSocketClient extends WebSocketClient {
     }
 
     /**
-     * Set the message handler for incoming messages
+     * Set the handler for decoded incoming events
+     */
+    public void setEventHandler(Consumer<WebSocketEvent> handler) {
+        this.eventHandler = handler;
+    }
+
+    /**
+     * Set the handler called when events may have been missed. It receives the sequence
+     * number of the last event handled before the gap, or -1 if none was numbered.
      */
-    public void setMessageHandler(Consumer<JsonObject> handler) {
-        this.messageHandler = handler;
+    public void setOnResync(LongConsumer handler) {
+        this.onResync = handler;
+    }
+
+    /**
+     * Get the sequence number of the last event handled
+     *
+     * @return The sequence number, or -1 if the server has not numbered any event yet
+     */
+    public long getLastSeq() {
+        return lastSeq;
     }
 
     /**
@@ -117,46 +333,178 @@ public class CoreWebSocketClient extends WebSocketClient {
      * Check if currently connected
      */
     public boolean isConnected() {
-        return isConnected && this.isOpen();
+        return state.get() == ConnectionState.OPEN && this.isOpen();
+    }
+
+    /**
+     * Get the state of the connection
+     */
+    public ConnectionState getConnectionState() {
+        return state.get();
     }
 
     /**
-     * Send a message to the server
+     * Send a message to the server. The message is queued and sent as soon as the
+     * connection allows, so messages sent while disconnected are replayed on reconnect.
      *
      * @param type The message type
+     * @param key  Coalescing key for invalidations, e.g. GRANT_CHANGE:uuid; null to always send
      * @param data The message data as JsonObject
      */
-    public void send(String type, JsonObject data) {
+    public void send(String type, String key, JsonObject data) {
+        if (isConnected() && outbound.size() >= OUTBOUND_CAPACITY) {
+            // Senders are outpacing the flushing thread: wait for it and help instead of dropping
+            flushLock.lock();
+            try {
+                drain();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+
+        OutboundQueue.Offer offer = outbound.offer(new OutboundQueue.Entry(type, key, data, Instant.now().toString()));
+        if (offer == OutboundQueue.Offer.COALESCED) {
+            coalesced.increment();
+        } else if (offer == OutboundQueue.Offer.DROPPED_OLDEST) {
+            recordOverflow(1);
+        }
+
         if (!isConnected()) {
-            log.warn("[WebSocket] Cannot send message: not connected");
+            log.debug("[WebSocket] Queued {} until reconnected", type);
             return;
         }
+        flush();
+    }
+
+    /**
+     * Send everything queued while the connection is open. One thread drains at a time;
+     * messages queued meanwhile are picked up by that thread and, if the server advertised
+     * support for them, go out as BATCH frames.
+     */
+    public void flush() {
+        while (isConnected() && !outbound.isEmpty() && flushLock.tryLock()) {
+            try {
+                drain();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    private void drain() {
+        List<OutboundQueue.Entry> batch;
+        while (isConnected() && !(batch = outbound.poll(batching ? MAX_BATCH_SIZE : 1)).isEmpty()) {
+            try {
+                send(encode(batch));
+            } catch (WebsocketNotConnectedException e) {
+                recordOverflow(outbound.requeue(batch));
+                return;
+            }
+
+            if (batch.size() == 1) {
+                singleFrames.increment();
+            } else {
+                batchFrames.increment();
+            }
+            log.debug("[WebSocket] Sent {} message(s)", batch.size());
+        }
+    }
+
+    /**
+     * Get the number of messages waiting to be sent
+     */
+    public int getBacklog() {
+        return outbound.size();
+    }
+
+    private String encode(List<OutboundQueue.Entry> batch) {
+        JsonObject message;
+        if (batch.size() == 1) {
+            message = envelope(batch.get(0));
+        } else {
+            JsonArray messages = new JsonArray(batch.size());
+            for (OutboundQueue.Entry entry : batch) {
+                JsonObject item = new JsonObject();
+                item.addProperty("type", entry.getType());
+                item.add("data", entry.getData());
+                item.addProperty("timestamp", entry.getTimestamp());
+                messages.add(item);
+            }
 
+            message = new JsonObject();
+            message.addProperty("type", "BATCH");
+            message.add("messages", messages);
+            message.addProperty("serverType", serverType);
+            message.addProperty("serverName", serverName);
+            message.addProperty("timestamp", Instant.now().toString());
+        }
+        return gson.toJson(message);
+    }
+
+    private JsonObject envelope(OutboundQueue.Entry entry) {
         JsonObject message = new JsonObject();
-        message.addProperty("type", type);
-        message.add("data", data);
+        message.addProperty("type", entry.getType());
+        message.add("data", entry.getData());
         message.addProperty("serverType", serverType);
         message.addProperty("serverName", serverName);
-        message.addProperty("timestamp", java.time.Instant.now().toString());
+        message.addProperty("timestamp", entry.getTimestamp());
+        return message;
+    }
 
-        String json = gson.toJson(message);
-        send(json);
-        log.debug("[WebSocket] Sent: {}", type);
+    private void recordOverflow(int dropped) {
+        if (dropped == 0) {
+            return;
+        }
+        droppedOverflow.add(dropped);
+
+        long skipped = logSampler.sample("overflow");
+        if (skipped >= 0) {
+            log.warn("[WebSocket] Outbound queue full ({} messages), dropped the oldest ({} similar warnings not logged)",
+                    OUTBOUND_CAPACITY, skipped);
+        }
     }
 
     /**
-     * Schedule a reconnection attempt
+     * Schedule the next reconnection attempt on the reconnect thread
      */
     private void scheduleReconnect() {
-        new Thread(() -> {
-            try {
-                TimeUnit.SECONDS.sleep(5);
-                log.info("[WebSocket] Attempting to reconnect...");
-                this.reconnect();
-            } catch (InterruptedException e) {
-                log.error("[WebSocket] Reconnect interrupted: {}", e.getMessage());
+        long delay = backoff.nextDelayMillis();
+        log.info("[WebSocket] Reconnecting in {} ms (attempt {})", delay, backoff.getAttempts());
+        try {
+            pendingReconnect = reconnectScheduler.schedule(this::attemptReconnect, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shut down in the meantime
+        }
+    }
+
+    /**
+     * Reconnect unless the client was shut down while waiting. A failed attempt ends in
+     * onClose, which schedules the next one.
+     */
+    private void attemptReconnect() {
+        if (!state.compareAndSet(ConnectionState.BACKOFF, ConnectionState.CONNECTING)) {
+            return;
+        }
+        reconnectAttempts.increment();
+        log.info("[WebSocket] Attempting to reconnect...");
+
+        try {
+            this.uri = resumeUri();
+            this.reconnect();
+        } catch (Exception e) {
+            log.error("[WebSocket] Failed to reconnect: {}", e.getMessage());
+            if (state.compareAndSet(ConnectionState.CONNECTING, ConnectionState.BACKOFF)) {
+                scheduleReconnect();
             }
-        }).start();
+        }
+    }
+
+    /**
+     * Build the connect URI, asking the server to replay events after the last one handled
+     */
+    private URI resumeUri() {
+        long seq = lastSeq;
+        return seq < 0 ? URI.create(baseUri) : URI.create(baseUri + "&resume_from=" + seq);
     }
 
     /**
@@ -165,12 +513,35 @@ public class CoreWebSocketClient extends WebSocketClient {
      * @return true if connection initiated successfully
      */
     public boolean connectSync() {
+        if (reconnectScheduler.isShutdown() || !state.compareAndSet(ConnectionState.CLOSED, ConnectionState.CONNECTING)) {
+            log.warn("[WebSocket] Not connecting, the client is {}", reconnectScheduler.isShutdown() ? "shut down" : state.get());
+            return false;
+        }
+
         try {
             this.connect();
             return true;
         } catch (Exception e) {
             log.error("[WebSocket] Failed to connect: {}", e.getMessage());
+            state.set(ConnectionState.CLOSED);
             return false;
         }
     }
+
+    /**
+     * Close the connection for good: pending and future reconnect attempts are cancelled
+     * and the reconnect thread is stopped. The client cannot be connected again afterwards.
+     */
+    public void shutdown() {
+        ConnectionState previous = state.getAndSet(ConnectionState.CLOSED);
+        ScheduledFuture<?> pending = pendingReconnect;
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        reconnectScheduler.shutdownNow();
+
+        if (previous != ConnectionState.CLOSED) {
+            this.close();
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package club.catmc.core.shared.ws;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate limits log lines per key: the first occurrence is logged, then at most one per
+ * interval, and the logged line reports how many were skipped in between.
+ */
+class LogSampler {
+
+    private final long intervalNanos;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    LogSampler(long interval, TimeUnit unit) {
+        this.intervalNanos = unit.toNanos(interval);
+    }
+
+    /**
+     * Records an occurrence of the key
+     *
+     * @param key The log key, e.g. an event type
+     * @return -1 if this occurrence should not be logged, otherwise the number skipped since the last logged one
+     */
+    long sample(String key) {
+        Window window = windows.computeIfAbsent(key, k -> new Window(System.nanoTime() - intervalNanos));
+        long now = System.nanoTime();
+        long last = window.lastLogged.get();
+        if (now - last < intervalNanos || !window.lastLogged.compareAndSet(last, now)) {
+            window.skipped.increment();
+            return -1;
+        }
+        return window.skipped.sumThenReset();
+    }
+
+    private static class Window {
+        private final AtomicLong lastLogged;
+        private final LongAdder skipped = new LongAdder();
+
+        private Window(long lastLogged) {
+            this.lastLogged = new AtomicLong(lastLogged);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package club.catmc.core.shared.ws;
+
+import com.google.gson.JsonObject;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded, ordered buffer for outbound WebSocket messages.
+ * <p>
+ * Messages wait here while the connection is down and are sent in order once it opens.
+ * A message with a coalescing key is dropped while another with the same key is still
+ * waiting: both are invalidations, and the pending one already makes receivers refetch.
+ * When the queue is full the oldest message is dropped.
+ */
+class OutboundQueue {
+
+    private final int capacity;
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private final Map<String, Entry> pendingByKey = new HashMap<>();
+
+    OutboundQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds a message to the tail of the queue
+     *
+     * @param entry The message
+     * @return The outcome, for metrics and logging
+     */
+    synchronized Offer offer(Entry entry) {
+        if (entry.key != null) {
+            if (pendingByKey.containsKey(entry.key)) {
+                return Offer.COALESCED;
+            }
+            pendingByKey.put(entry.key, entry);
+        }
+
+        Offer result = Offer.QUEUED;
+        if (queue.size() >= capacity) {
+            forget(queue.pollFirst());
+            result = Offer.DROPPED_OLDEST;
+        }
+        queue.addLast(entry);
+        return result;
+    }
+
+    /**
+     * Removes up to max messages from the head of the queue
+     *
+     * @param max The maximum number of messages
+     * @return The messages in order, empty if the queue is empty
+     */
+    synchronized List<Entry> poll(int max) {
+        int count = Math.min(max, queue.size());
+        if (count == 0) {
+            return List.of();
+        }
+
+        List<Entry> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Entry entry = queue.pollFirst();
+            forget(entry);
+            batch.add(entry);
+        }
+        return batch;
+    }
+
+    /**
+     * Puts messages that could not be sent back at the head of the queue, keeping their order.
+     * A message whose key was queued again in the meantime is dropped, as the newer one covers it.
+     *
+     * @param batch Messages previously returned by {@link #poll(int)}
+     * @return The number of messages that did not fit back into the queue
+     */
+    synchronized int requeue(List<Entry> batch) {
+        int dropped = 0;
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            Entry entry = batch.get(i);
+            if (entry.key != null) {
+                if (pendingByKey.containsKey(entry.key)) {
+                    continue;
+                }
+                pendingByKey.put(entry.key, entry);
+            }
+            queue.addFirst(entry);
+        }
+        while (queue.size() > capacity) {
+            forget(queue.pollFirst());
+            dropped++;
+        }
+        return dropped;
+    }
+
+    synchronized int size() {
+        return queue.size();
+    }
+
+    synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    private void forget(Entry entry) {
+        if (entry.key != null) {
+            pendingByKey.remove(entry.key, entry);
+        }
+    }
+
+    enum Offer {
+        QUEUED,
+        COALESCED,
+        DROPPED_OLDEST
+    }
+
+    /**
+     * A queued message
+     */
+    static final class Entry {
+        private final String type;
+        private final String key;
+        private final JsonObject data;
+        private final String timestamp;
+
+        Entry(String type, String key, JsonObject data, String timestamp) {
+            this.type = type;
+            this.key = key;
+            this.data = data;
+            this.timestamp = timestamp;
+        }
+
+        String getType() {
+            return type;
+        }
+
+        JsonObject getData() {
+            return data;
+        }
+
+        String getTimestamp() {
+            return timestamp;
+        }
+    }
+}
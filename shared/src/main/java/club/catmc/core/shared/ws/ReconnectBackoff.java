@@ -0,0 +1,50 @@
+package club.catmc.core.shared.ws;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter for reconnect attempts.
+ * <p>
+ * The ceiling doubles after every failed attempt up to a maximum, and the actual delay is
+ * picked between half the ceiling and the ceiling so servers that lost the API at the same
+ * moment do not all come back at the same moment.
+ */
+class ReconnectBackoff {
+
+    private final long baseMillis;
+    private final long maxMillis;
+
+    private int attempts;
+
+    ReconnectBackoff(long baseMillis, long maxMillis) {
+        this.baseMillis = baseMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * Records a failed attempt and picks the delay before the next one
+     *
+     * @return The delay in milliseconds
+     */
+    synchronized long nextDelayMillis() {
+        // Stop shifting once the ceiling is reached so the delay cannot overflow
+        long ceiling = attempts >= 30 ? maxMillis : Math.min(maxMillis, baseMillis << attempts);
+        attempts++;
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+
+    /**
+     * Gets the number of attempts since the last reset
+     */
+    synchronized int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Starts over from the base delay
+     */
+    synchronized void reset() {
+        attempts = 0;
+    }
+}
@@ -1,11 +1,29 @@
 package club.catmc.core.shared.ws;
 
+import club.catmc.core.shared.metrics.MetricsRegistry;
+import club.catmc.core.shared.metrics.RateMeter;
+import club.catmc.core.shared.ws.event.AckEvent;
+import club.catmc.core.shared.ws.event.ConnectedEvent;
+import club.catmc.core.shared.ws.event.ErrorEvent;
+import club.catmc.core.shared.ws.event.GrantChangeEvent;
+import club.catmc.core.shared.ws.event.PlayerUpdateEvent;
+import club.catmc.core.shared.ws.event.PrivateMessageEvent;
+import club.catmc.core.shared.ws.event.PunishmentExecuteEvent;
+import club.catmc.core.shared.ws.event.RankChangeEvent;
+import club.catmc.core.shared.ws.event.UnknownEvent;
+import club.catmc.core.shared.ws.event.WebSocketEvent;
+import club.catmc.core.shared.ws.event.WebSocketEventDecoder;
 import com.google.gson.JsonObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 /**
  * Manages WebSocket connection and message routing
@@ -14,66 +32,54 @@ public class WebSocketManager {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocketManager.class);
 
+    // Routine events are logged at INFO at most once per type per interval
+    private static final long LOG_SAMPLE_SECONDS = 10;
+    private static final String UNKNOWN_TYPE = "UNKNOWN";
+
     private final CoreWebSocketClient client;
     private final String serverType;  // 'paper' or 'bungee'
     private final String serverName;
+    private final LogSampler logSampler = new LogSampler(LOG_SAMPLE_SECONDS, TimeUnit.SECONDS);
+    private final Map<String, RateMeter> inboundRates = new HashMap<>();
+    private final RateMeter unknownInboundRate;
+    private final Map<String, RateMeter> outboundRates = new HashMap<>();
 
     // Message handlers
     private Consumer<UUID> onGrantChange;
     private Consumer<String> onRankChange;
     private Consumer<UUID> onPlayerUpdate;
-    private Consumer<PrivateMessage> onPrivateMessage;
-    private Consumer<PunishmentExecute> onPunishmentExecute;
+    private Consumer<PrivateMessageEvent> onPrivateMessage;
+    private Consumer<PunishmentExecuteEvent> onPunishmentExecute;
 
     public WebSocketManager(String wsUrl, String serverType, String serverName, String apiKey) {
+        this(wsUrl, serverType, serverName, apiKey, new MetricsRegistry());
+    }
+
+    public WebSocketManager(String wsUrl, String serverType, String serverName, String apiKey, MetricsRegistry metrics) {
         this.serverType = serverType;
         this.serverName = serverName;
-        this.client = new CoreWebSocketClient(wsUrl, serverType, serverName, apiKey);
+        this.client = new CoreWebSocketClient(wsUrl, serverType, serverName, apiKey, metrics);
+        CoreWebSocketClient client = this.client;
+        metrics.gauge("core_ws_connected", () -> client.isConnected() ? 1 : 0);
+
+        // Resolve inbound meters up front; unknown types share one so a bad peer cannot grow the registry
+        for (String type : WebSocketEventDecoder.getKnownTypes()) {
+            inboundRates.put(type, metrics.rate("core_ws_messages", "direction", "in", "type", type));
+        }
+        this.unknownInboundRate = metrics.rate("core_ws_messages", "direction", "in", "type", UNKNOWN_TYPE);
+        for (String type : List.of(GrantChangeEvent.TYPE, RankChangeEvent.TYPE, PlayerUpdateEvent.TYPE, PrivateMessageEvent.TYPE)) {
+            outboundRates.put(type, metrics.rate("core_ws_messages", "direction", "out", "type", type));
+        }
 
         setupMessageHandler();
         setupConnectionCallbacks();
     }
 
     /**
-     * Setup message handler to route messages to appropriate handlers
+     * Setup the event handler to route events to the registered handlers
      */
     private void setupMessageHandler() {
-        client.setMessageHandler(json -> {
-            String type = json.has("type") ? json.get("type").getAsString() : "UNKNOWN";
-
-            switch (type) {
-                case "GRANT_CHANGE":
-                    handleGrantChange(json);
-                    break;
-
-                case "RANK_CHANGE":
-                    handleRankChange(json);
-                    break;
-
-                case "PLAYER_UPDATE":
-                    handlePlayerUpdate(json);
-                    break;
-
-                case "PRIVATE_MESSAGE":
-                    handlePrivateMessage(json);
-                    break;
-
-                case "PUNISH_EXECUTE":
-                    handlePunishmentExecute(json);
-                    break;
-
-                case "CONNECTED":
-                    log.info("[WebSocket] Server confirmed connection: {}", json.get("message").getAsString());
-                    break;
-
-                case "ERROR":
-                    log.error("[WebSocket] Server error: {}", json.get("message").getAsString());
-                    break;
-
-                default:
-                    log.warn("[WebSocket] Unknown message type: {}", type);
-            }
-        });
+        client.setEventHandler(this::dispatch);
     }
 
     /**
@@ -90,94 +96,75 @@ public class WebSocketManager {
     }
 
     /**
-     * Handle GRANT_CHANGE message
+     * Route a decoded event to its handler
      */
-    private void handleGrantChange(JsonObject json) {
-        try {
-            String playerUuidStr = json.get("playerUuid").getAsString();
-            UUID playerUuid = UUID.fromString(playerUuidStr);
-
-            log.info("[WebSocket] Grant change notification for player: {}", playerUuidStr);
-
-            if (onGrantChange != null) {
-                onGrantChange.accept(playerUuid);
-            }
-        } catch (Exception e) {
-            log.error("[WebSocket] Failed to handle GRANT_CHANGE: {}", e.getMessage());
-        }
-    }
-
-    /**
-     * Handle RANK_CHANGE message
-     */
-    private void handleRankChange(JsonObject json) {
-        try {
-            String rankId = json.get("rankId").getAsString();
-
-            log.info("[WebSocket] Rank change notification for rank: {}", rankId);
-
-            if (onRankChange != null) {
-                onRankChange.accept(rankId);
-            }
-        } catch (Exception e) {
-            log.error("[WebSocket] Failed to handle RANK_CHANGE: {}", e.getMessage());
-        }
-    }
-
-    /**
-     * Handle PLAYER_UPDATE message
-     */
-    private void handlePlayerUpdate(JsonObject json) {
-        try {
-            String playerUuidStr = json.get("playerUuid").getAsString();
-            UUID playerUuid = UUID.fromString(playerUuidStr);
+    private void dispatch(WebSocketEvent event) {
+        RateMeter rate = inboundRates.get(event.getType());
+        (rate != null ? rate : unknownInboundRate).mark();
 
-            log.info("[WebSocket] Player update notification for: {}", playerUuidStr);
-
-            if (onPlayerUpdate != null) {
-                onPlayerUpdate.accept(playerUuid);
-            }
-        } catch (Exception e) {
-            log.error("[WebSocket] Failed to handle PLAYER_UPDATE: {}", e.getMessage());
-        }
-    }
-
-    /**
-     * Handle PRIVATE_MESSAGE message
-     */
-    private void handlePrivateMessage(JsonObject json) {
         try {
-            String targetPlayer = json.get("targetPlayer").getAsString();
-            String senderName = json.get("senderName").getAsString();
-            String message = json.get("message").getAsString();
-
-            log.info("[WebSocket] Private message from {} to {}", senderName, targetPlayer);
-
-            if (onPrivateMessage != null) {
-                onPrivateMessage.accept(new PrivateMessage(targetPlayer, senderName, message));
+            switch (event) {
+                case GrantChangeEvent grantChange -> {
+                    logSampled(grantChange);
+                    if (onGrantChange != null) {
+                        onGrantChange.accept(grantChange.getPlayerUuid());
+                    }
+                }
+                case RankChangeEvent rankChange -> {
+                    logSampled(rankChange);
+                    if (onRankChange != null) {
+                        onRankChange.accept(rankChange.getRankId());
+                    }
+                }
+                case PlayerUpdateEvent playerUpdate -> {
+                    logSampled(playerUpdate);
+                    if (onPlayerUpdate != null) {
+                        onPlayerUpdate.accept(playerUpdate.getPlayerUuid());
+                    }
+                }
+                case PrivateMessageEvent privateMessage -> {
+                    logSampled(privateMessage);
+                    if (onPrivateMessage != null) {
+                        onPrivateMessage.accept(privateMessage);
+                    }
+                }
+                case PunishmentExecuteEvent punishmentExecute -> {
+                    logSampled(punishmentExecute);
+                    if (onPunishmentExecute != null) {
+                        onPunishmentExecute.accept(punishmentExecute);
+                    }
+                }
+                // Never reached: CoreWebSocketClient consumes ACKs after advancing the sequence;
+                // the case only keeps the switch exhaustive over the sealed event types
+                case AckEvent ignored -> {
+                }
+                case ConnectedEvent connected ->
+                        log.info("[WebSocket] Server confirmed connection: {}", connected.getMessage());
+                case ErrorEvent error ->
+                        log.error("[WebSocket] Server error: {}", error.getMessage());
+                case UnknownEvent unknown -> {
+                    long skipped = logSampler.sample(UNKNOWN_TYPE);
+                    if (skipped >= 0) {
+                        log.warn("[WebSocket] Unknown message type: {} ({} more not logged)", unknown.getType(), skipped);
+                    }
+                }
             }
         } catch (Exception e) {
-            log.error("[WebSocket] Failed to handle PRIVATE_MESSAGE: {}", e.getMessage());
+            log.error("[WebSocket] Failed to handle {}: {}", event.getType(), e.getMessage());
         }
     }
 
     /**
-     * Handle PUNISH_EXECUTE message
+     * Log a routine event at INFO, at most once per type per sampling interval
      */
-    private void handlePunishmentExecute(JsonObject json) {
-        try {
-            String playerUuidStr = json.get("playerUuid").getAsString();
-            UUID playerUuid = UUID.fromString(playerUuidStr);
-            String punishmentType = json.get("punishmentType").getAsString();
-            String reason = json.has("reason") && !json.get("reason").isJsonNull() ? json.get("reason").getAsString() : null;
-
-            log.info("[WebSocket] Punishment execution for player: {}, type: {}", playerUuidStr, punishmentType);
-
-            if (onPunishmentExecute != null) {
-                onPunishmentExecute.accept(new PunishmentExecute(playerUuid, punishmentType, reason));
-            }
-        } catch (Exception e) {
-            log.error("[WebSocket] Failed to handle PUNISH_EXECUTE: {}", e.getMessage());
+    private void logSampled(WebSocketEvent event) {
+        long skipped = logSampler.sample(event.getType());
+        if (skipped > 0) {
+            log.info("[WebSocket] Received {} ({} more {} not logged)", event, skipped, event.getType());
+        } else if (skipped == 0) {
+            log.info("[WebSocket] Received {}", event);
+        } else {
+            log.debug("[WebSocket] Received {}", event);
         }
     }
 
@@ -195,14 +182,22 @@ public class WebSocketManager {
         this.onPlayerUpdate = handler;
     }
 
-    public void onPrivateMessage(Consumer<PrivateMessage> handler) {
+    public void onPrivateMessage(Consumer<PrivateMessageEvent> handler) {
         this.onPrivateMessage = handler;
     }
 
-    public void onPunishmentExecute(Consumer<PunishmentExecute> handler) {
+    public void onPunishmentExecute(Consumer<PunishmentExecuteEvent> handler) {
         this.onPunishmentExecute = handler;
     }
 
+    /**
+     * Set the handler for resyncs: after a gap in the event stream or a reconnect the server
+     * could not resume, it receives the sequence number of the last event handled (-1 if unknown)
+     */
+    public void onResync(LongConsumer handler) {
+        client.setOnResync(handler);
+    }
+
     /**
      * Connect to the WebSocket server
      */
@@ -216,7 +211,7 @@ public class WebSocketManager {
      */
     public void disconnect() {
         log.info("[WebSocket] Disconnecting from Core API...");
-        client.close();
+        client.shutdown();
     }
 
     /**
@@ -226,13 +221,20 @@ public class WebSocketManager {
         return client.isConnected();
     }
 
+    /**
+     * Get the state of the connection, e.g. BACKOFF while waiting to reconnect
+     */
+    public CoreWebSocketClient.ConnectionState getConnectionState() {
+        return client.getConnectionState();
+    }
+
     /**
      * Broadcast a grant change to all servers
      */
     public void broadcastGrantChange(UUID playerUuid) {
         JsonObject data = new JsonObject();
         data.addProperty("playerUuid", playerUuid.toString());
-        client.send("GRANT_CHANGE", data);
+        send(GrantChangeEvent.TYPE, GrantChangeEvent.TYPE + ":" + playerUuid, data);
     }
 
     /**
@@ -241,7 +243,7 @@ public class WebSocketManager {
     public void broadcastRankChange(String rankId) {
         JsonObject data = new JsonObject();
         data.addProperty("rankId", rankId);
-        client.send("RANK_CHANGE", data);
+        send(RankChangeEvent.TYPE, RankChangeEvent.TYPE + ":" + rankId, data);
     }
 
     /**
@@ -250,7 +252,7 @@ public class WebSocketManager {
     public void broadcastPlayerUpdate(UUID playerUuid) {
         JsonObject data = new JsonObject();
         data.addProperty("playerUuid", playerUuid.toString());
-        client.send("PLAYER_UPDATE", data);
+        send(PlayerUpdateEvent.TYPE, PlayerUpdateEvent.TYPE + ":" + playerUuid, data);
     }
 
     /**
@@ -261,60 +263,24 @@ public class WebSocketManager {
         data.addProperty("targetPlayer", targetPlayer);
         data.addProperty("senderName", senderName);
         data.addProperty("message", message);
-        client.send("PRIVATE_MESSAGE", data);
+        send(PrivateMessageEvent.TYPE, null, data);
     }
 
     /**
-     * Data class for private messages
+     * Get the number of outbound messages waiting for the connection
      */
-    public static class PrivateMessage {
-        private final String targetPlayer;
-        private final String senderName;
-        private final String message;
-
-        public PrivateMessage(String targetPlayer, String senderName, String message) {
-            this.targetPlayer = targetPlayer;
-            this.senderName = senderName;
-            this.message = message;
-        }
-
-        public String getTargetPlayer() {
-            return targetPlayer;
-        }
-
-        public String getSenderName() {
-            return senderName;
-        }
-
-        public String getMessage() {
-            return message;
-        }
+    public int getOutboundBacklog() {
+        return client.getBacklog();
     }
 
     /**
-     * Data class for punishment execution
+     * Queue a message for the server. Callers need not check {@link #isConnected()} first:
+     * messages sent while disconnected are held by the client and replayed on reconnect.
+     *
+     * @param key Coalescing key for invalidations, or null for messages that must all be delivered
      */
-    public static class PunishmentExecute {
-        private final UUID playerUuid;
-        private final String punishmentType;
-        private final String reason;
-
-        public PunishmentExecute(UUID playerUuid, String punishmentType, String reason) {
-            this.playerUuid = playerUuid;
-            this.punishmentType = punishmentType;
-            this.reason = reason;
-        }
-
-        public UUID getPlayerUuid() {
-            return playerUuid;
-        }
-
-        public String getPunishmentType() {
-            return punishmentType;
-        }
-
-        public String getReason() {
-            return reason;
-        }
+    private void send(String type, String key, JsonObject data) {
+        outboundRates.get(type).mark();
+        client.send(type, key, data);
     }
 }
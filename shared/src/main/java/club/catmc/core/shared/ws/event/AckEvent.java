@@ -0,0 +1,31 @@
+package club.catmc.core.shared.ws.event;
+
+/**
+ * Sent by the Core API to the server that sent a message, in place of the relayed event.
+ * The relay skips the sender, so this keeps the sender's sequence numbers contiguous.
+ */
+public final class AckEvent implements WebSocketEvent {
+
+    public static final String TYPE = "ACK";
+
+    private final long seq;
+
+    public AckEvent(long seq) {
+        this.seq = seq;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public long getSeq() {
+        return seq;
+    }
+
+    @Override
+    public String toString() {
+        return getType() + " seq=" + seq;
+    }
+}
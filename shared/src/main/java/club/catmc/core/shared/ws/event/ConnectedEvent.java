@@ -0,0 +1,51 @@
+package club.catmc.core.shared.ws.event;
+
+/**
+ * Sent by the Core API once it accepted the connection.
+ * On a reconnect that asked to resume, {@link #isResumed()} tells whether the server will
+ * replay the events that were missed; {@link #getSeq()} is the last sequence number it sent.
+ * {@link #isBatching()} tells whether the server accepts BATCH frames.
+ */
+public final class ConnectedEvent implements WebSocketEvent {
+
+    public static final String TYPE = "CONNECTED";
+
+    private final String message;
+    private final boolean resumed;
+    private final boolean batching;
+    private final long seq;
+
+    public ConnectedEvent(String message, boolean resumed, boolean batching, long seq) {
+        this.message = message;
+        this.resumed = resumed;
+        this.batching = batching;
+        this.seq = seq;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public long getSeq() {
+        return seq;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isResumed() {
+        return resumed;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    @Override
+    public String toString() {
+        return getType() + " message=" + message + " resumed=" + resumed + " batching=" + batching + " seq=" + seq;
+    }
+}
@@ -0,0 +1,36 @@
+package club.catmc.core.shared.ws.event;
+
+/**
+ * An error reported by the Core API
+ */
+public final class ErrorEvent implements WebSocketEvent {
+
+    public static final String TYPE = "ERROR";
+
+    private final String message;
+    private final long seq;
+
+    public ErrorEvent(String message, long seq) {
+        this.message = message;
+        this.seq = seq;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public long getSeq() {
+        return seq;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return getType() + " message=" + message;
+    }
+}
@@ -0,0 +1,38 @@
+package club.catmc.core.shared.ws.event;
+
+import java.util.UUID;
+
+/**
+ * A player's grants changed
+ */
+public final class GrantChangeEvent implements WebSocketEvent {
+
+    public static final String TYPE = "GRANT_CHANGE";
+
+    private final UUID playerUuid;
+    private final long seq;
+
+    public GrantChangeEvent(UUID playerUuid, long seq) {
+        this.playerUuid = playerUuid;
+        this.seq = seq;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public long getSeq() {
+        return seq;
+    }
+
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    @Override
+    public String toString() {
+        return getType() + " playerUuid=" + playerUuid;
+    }
+}
@@ -0,0 +1,38 @@
+package club.catmc.core.shared.ws.event;
+
+import java.util.UUID;
+
+/**
+ * A player's stored data changed
+ */
+public final class PlayerUpdateEvent implements WebSocketEvent {
+
+    public static final String TYPE = "PLAYER_UPDATE";
+
+    private final UUID playerUuid;
+    private final long seq;
+
+    public PlayerUpdateEvent(UUID playerUuid, long seq) {
+        this.playerUuid = playerUuid;
+        this.seq = seq;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public long getSeq() {
+        return seq;
+    }
+
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    @Override
+    public String toString() {
+        return getType() + " playerUuid=" + playerUuid;
+    }
+}
@@ -0,0 +1,49 @@
+package club.catmc.core.shared.ws.event;
+
+/**
+ * A private message routed through the Core API
+ */
+public final class PrivateMessageEvent implements WebSocketEvent {
+
+    public static final String TYPE = "PRIVATE_MESSAGE";
+
+    private final String targetPlayer;
+    private final String senderName;
+    private final String message;
+    private final long seq;
+
+    public PrivateMessageEvent(String targetPlayer, String senderName, String message, long seq) {
+        this.targetPlayer = targetPlayer;
+        this.senderName = senderName;
+        this.message = message;
+        this.seq = seq;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public long getSeq() {
+        return seq;
+    }
+
+    public String getTargetPlayer() {
+        return targetPlayer;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        // The message body is left out so it never reaches the logs
+        return getType() + " senderName=" + senderName + " targetPlayer=" + targetPlayer;
+    }
+}
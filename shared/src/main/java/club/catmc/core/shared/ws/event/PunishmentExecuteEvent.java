@@ -0,0 +1,50 @@
+package club.catmc.core.shared.ws.event;
+
+import java.util.UUID;
+
+/**
+ * A punishment was issued against a player
+ */
+public final class PunishmentExecuteEvent implements WebSocketEvent {
+
+    public static final String TYPE = "PUNISH_EXECUTE";
+
+    private final UUID playerUuid;
+    private final String punishmentType;
+    private final String reason;
+    private final long seq;
+
+    public PunishmentExecuteEvent(UUID playerUuid, String punishmentType, String reason, long seq) {
+        this.playerUuid = playerUuid;
+        this.punishmentType = punishmentType;
+        this.reason = reason;
+        this.seq = seq;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public long getSeq() {
+        return seq;
+    }
+
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    public String getPunishmentType() {
+        return punishmentType;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return getType() + " playerUuid=" + playerUuid + " punishmentType=" + punishmentType + " reason=" + reason;
+    }
+}
@@ -0,0 +1,36 @@
+package club.catmc.core.shared.ws.event;
+
+/**
+ * A rank was created, edited or deleted
+ */
+public final class RankChangeEvent implements WebSocketEvent {
+
+    public static final String TYPE = "RANK_CHANGE";
+
+    private final String rankId;
+    private final long seq;
+
+    public RankChangeEvent(String rankId, long seq) {
+        this.rankId = rankId;
+        this.seq = seq;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public long getSeq() {
+        return seq;
+    }
+
+    public String getRankId() {
+        return rankId;
+    }
+
+    @Override
+    public String toString() {
+        return getType() + " rankId=" + rankId;
+    }
+}
@@ -0,0 +1,30 @@
+package club.catmc.core.shared.ws.event;
+
+/**
+ * An event whose type this version does not know about
+ */
+public final class UnknownEvent implements WebSocketEvent {
+
+    private final String type;
+    private final long seq;
+
+    public UnknownEvent(String type, long seq) {
+        this.type = type;
+        this.seq = seq;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public long getSeq() {
+        return seq;
+    }
+
+    @Override
+    public String toString() {
+        return getType();
+    }
+}
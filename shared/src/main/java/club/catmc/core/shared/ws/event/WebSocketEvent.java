@@ -0,0 +1,23 @@
+package club.catmc.core.shared.ws.event;
+
+/**
+ * An event pushed by the Core API over the WebSocket, decoded by {@link WebSocketEventDecoder}
+ */
+public sealed interface WebSocketEvent
+        permits GrantChangeEvent, RankChangeEvent, PlayerUpdateEvent, PrivateMessageEvent,
+        PunishmentExecuteEvent, ConnectedEvent, AckEvent, ErrorEvent, UnknownEvent {
+
+    /**
+     * Gets the wire type of this event, e.g. GRANT_CHANGE
+     *
+     * @return The event type
+     */
+    String getType();
+
+    /**
+     * Gets the position of this event in the server's event stream
+     *
+     * @return The sequence number, or -1 if the server did not number the event
+     */
+    long getSeq();
+}
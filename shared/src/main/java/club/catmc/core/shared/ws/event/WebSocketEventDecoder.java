@@ -0,0 +1,158 @@
+package club.catmc.core.shared.ws.event;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decodes WebSocket frames into typed events in a single streaming pass.
+ * <p>
+ * Event fields sit at the top level of the frame and "type" is not guaranteed to come
+ * first, so the known fields are captured into slots while reading and the decoder for
+ * the type is picked once the object is closed. Unknown fields and nested values are
+ * skipped without being materialized.
+ */
+public final class WebSocketEventDecoder {
+
+    private static final int TYPE = 0;
+    private static final int PLAYER_UUID = 1;
+    private static final int RANK_ID = 2;
+    private static final int TARGET_PLAYER = 3;
+    private static final int SENDER_NAME = 4;
+    private static final int MESSAGE = 5;
+    private static final int PUNISHMENT_TYPE = 6;
+    private static final int REASON = 7;
+    private static final int SEQ = 8;
+    private static final int RESUMED = 9;
+    private static final int BATCHING = 10;
+
+    private static final String[] FIELD_NAMES = {
+            "type", "playerUuid", "rankId", "targetPlayer", "senderName", "message", "punishmentType", "reason",
+            "seq", "resumed", "batching"
+    };
+
+    private static final Map<String, Integer> FIELD_SLOTS = new HashMap<>();
+    private static final Map<String, Decoder> DECODERS = new HashMap<>();
+
+    static {
+        for (int slot = 0; slot < FIELD_NAMES.length; slot++) {
+            FIELD_SLOTS.put(FIELD_NAMES[slot], slot);
+        }
+
+        DECODERS.put(GrantChangeEvent.TYPE, fields -> new GrantChangeEvent(
+                requireUuid(fields, PLAYER_UUID), seq(fields)));
+        DECODERS.put(RankChangeEvent.TYPE, fields -> new RankChangeEvent(
+                require(fields, RANK_ID), seq(fields)));
+        DECODERS.put(PlayerUpdateEvent.TYPE, fields -> new PlayerUpdateEvent(
+                requireUuid(fields, PLAYER_UUID), seq(fields)));
+        DECODERS.put(PrivateMessageEvent.TYPE, fields -> new PrivateMessageEvent(
+                require(fields, TARGET_PLAYER), require(fields, SENDER_NAME), require(fields, MESSAGE), seq(fields)));
+        DECODERS.put(PunishmentExecuteEvent.TYPE, fields -> new PunishmentExecuteEvent(
+                requireUuid(fields, PLAYER_UUID), require(fields, PUNISHMENT_TYPE), fields[REASON], seq(fields)));
+        DECODERS.put(ConnectedEvent.TYPE, fields -> new ConnectedEvent(
+                fields[MESSAGE], Boolean.parseBoolean(fields[RESUMED]), Boolean.parseBoolean(fields[BATCHING]),
+                seq(fields)));
+        DECODERS.put(AckEvent.TYPE, fields -> new AckEvent(seq(fields)));
+        DECODERS.put(ErrorEvent.TYPE, fields -> new ErrorEvent(fields[MESSAGE], seq(fields)));
+    }
+
+    private WebSocketEventDecoder() {
+    }
+
+    /**
+     * Gets the event types this decoder knows about
+     *
+     * @return The known wire types
+     */
+    public static Set<String> getKnownTypes() {
+        return DECODERS.keySet();
+    }
+
+    /**
+     * Decodes a frame
+     *
+     * @param frame The raw JSON frame
+     * @return The decoded event, or an {@link UnknownEvent} for types without a decoder
+     * @throws IOException        if the frame is not a single JSON object
+     * @throws JsonParseException if a required field is missing or malformed
+     */
+    public static WebSocketEvent decode(String frame) throws IOException {
+        String[] fields = new String[FIELD_NAMES.length];
+
+        try (JsonReader reader = new JsonReader(new StringReader(frame))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                Integer slot = FIELD_SLOTS.get(reader.nextName());
+                if (slot == null) {
+                    reader.skipValue();
+                    continue;
+                }
+
+                switch (reader.peek()) {
+                    case STRING, NUMBER -> fields[slot] = reader.nextString();
+                    case BOOLEAN -> fields[slot] = reader.nextBoolean() ? "true" : "false";
+                    case NULL -> reader.nextNull();
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new MalformedJsonException("Trailing data after event object");
+            }
+        }
+
+        String type = fields[TYPE];
+        if (type == null) {
+            return new UnknownEvent("UNKNOWN", seq(fields));
+        }
+
+        Decoder decoder = DECODERS.get(type);
+        if (decoder == null) {
+            return new UnknownEvent(type, seq(fields));
+        }
+        return decoder.decode(fields);
+    }
+
+    private static long seq(String[] fields) {
+        String value = fields[SEQ];
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new JsonParseException(fields[TYPE] + " event has an invalid seq: " + value, e);
+        }
+    }
+
+    private static String require(String[] fields, int slot) {
+        String value = fields[slot];
+        if (value == null) {
+            throw new JsonParseException(fields[TYPE] + " event is missing " + FIELD_NAMES[slot]);
+        }
+        return value;
+    }
+
+    private static UUID requireUuid(String[] fields, int slot) {
+        String value = require(fields, slot);
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(fields[TYPE] + " event has an invalid " + FIELD_NAMES[slot] + ": " + value, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        WebSocketEvent decode(String[] fields);
+    }
+}